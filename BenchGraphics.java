@@ -0,0 +1,259 @@
+// BenchGraphics - timings for the library's hot paths
+//
+// This runs entirely off-screen, so it works on machines with no
+// display:
+//
+//      java -Djava.awt.headless=true BenchGraphics [n]
+//
+// n is the number of shapes in the scene (default 10000).  Each
+// benchmark is run as many times untimed as timed, to let the JIT warm
+// up, and the median and fastest of the timed runs are reported.  Quick
+// benchmarks are run more often, so that they still run long enough to
+// be compiled and their timings aren't swamped by noise.
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Random;
+
+import Graphics.Circle;
+import Graphics.ColorRGB;
+import Graphics.GraphWin;
+import Graphics.GraphicsObject;
+import Graphics.Point;
+import Graphics.PointCloud;
+import Graphics.Rectangle;
+
+public class BenchGraphics {
+
+    private static final int WIDTH = 1000;
+    private static final int HEIGHT = 1000;
+    private static final int RUNS = 30;
+
+    // Results are accumulated here, and printed at the end, so the JIT
+    // can't throw away the work being timed.
+    private static long sink = 0;
+
+    public static void main(String[] args) {
+        int n = 10000;
+        if (args.length > 0)
+            n = Integer.parseInt(args[0]);
+
+        System.out.printf("%d shapes, %dx%d pixels%n", n, WIDTH, HEIGHT);
+        System.out.printf("%-20s %10s %10s %12s%n", "", "median", "fastest", "median");
+        report("paint full window", n, benchPaint(n, false));
+        report("paint (parallel)", n, benchPaint(n, true));
+        report("move + update", n, benchMove(n));
+        report("move 10 on top", 10, benchMoveOnTop(n, false));
+        report("move 10 sprites", 10, benchMoveOnTop(n, true));
+        report("undraw", n, benchUndraw(n));
+        report("ColorRGB.named()", n, benchColorLookup(n, false));
+        report("new ColorRGB(String)", n, benchColorLookup(n, true));
+        report("pointXYtoScreen", n, benchTransform(n));
+        report("paint PointCloud", n * 100, benchPointCloud(n * 100));
+
+        // Printing the sink means none of the work can be skipped.
+        System.out.println("checksum " + sink);
+    }
+
+    private static void report(String name, int ops, Timer timer) {
+        long median = timer.median();
+        System.out.printf("%-20s %7.3f ms %7.3f ms %7.1f ns/op%n",
+            name, median / 1e6, timer.fastest() / 1e6, (double)median / ops);
+    }
+
+    // Times the runs of one benchmark.  The first half of the runs are
+    // for warming up, and aren't kept.
+    private static final class Timer {
+        private final long[] times;
+        private int run = 0;
+        private long start;
+
+        Timer(int runs) {
+            times = new long[runs];
+        }
+
+        boolean more() {
+            return run < 2 * times.length;
+        }
+
+        void start() {
+            start = System.nanoTime();
+        }
+
+        void stop() {
+            long elapsed = System.nanoTime() - start;
+            if (run >= times.length)
+                times[run - times.length] = elapsed;
+            run++;
+        }
+
+        long median() {
+            long[] sorted = times.clone();
+            Arrays.sort(sorted);
+            return sorted[sorted.length / 2];
+        }
+
+        long fastest() {
+            long min = Long.MAX_VALUE;
+            for (long t : times)
+                min = Math.min(min, t);
+            return min;
+        }
+    }
+
+    // Creates an off-screen window with n random circles and
+    // rectangles, and returns the shapes in drawing order.
+    private static ArrayList<GraphicsObject> createScene(GraphWin win, int n) {
+        Random rand = new Random(1);
+        ArrayList<GraphicsObject> shapes = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) {
+            double x = rand.nextDouble() * WIDTH;
+            double y = rand.nextDouble() * HEIGHT;
+            GraphicsObject obj;
+            if (i % 2 == 0) {
+                obj = new Circle(new Point(x, y), 5);
+            } else {
+                obj = new Rectangle(new Point(x, y), new Point(x + 10, y + 10));
+            }
+            obj.setFill(i % 3 == 0 ? "red" : "blue");
+            obj.draw(win);
+            shapes.add(obj);
+        }
+        return shapes;
+    }
+
+    // Time to redraw the whole window, optionally using parallel
+    // rendering.  Changing the background forces the whole window to
+    // be redrawn.
+    private static Timer benchPaint(int n, boolean parallel) {
+        GraphWin win = GraphWin.createOffscreen(WIDTH, HEIGHT);
+        win.setParallelRendering(parallel);
+        createScene(win, n);
+        Timer timer = new Timer(RUNS);
+        for (int i = 0; timer.more(); i++) {
+            win.setBackground(i % 2 == 0 ? "white" : "gray");
+            timer.start();
+            sink += win.getImage().getRGB(0, 0);
+            timer.stop();
+        }
+        return timer;
+    }
+
+    // Time to move every shape once and redraw.
+    private static Timer benchMove(int n) {
+        GraphWin win = GraphWin.createOffscreen(WIDTH, HEIGHT);
+        ArrayList<GraphicsObject> shapes = createScene(win, n);
+        win.getImage();
+        Timer timer = new Timer(RUNS);
+        for (int i = 0; timer.more(); i++) {
+            double d = (i % 2 == 0) ? 1 : -1;
+            timer.start();
+            for (GraphicsObject obj : shapes)
+                obj.move(d, d);
+            sink += win.getImage().getRGB(0, 0);
+            timer.stop();
+        }
+        return timer;
+    }
+
+    // Time to move 10 circles drawn on top of the scene and redraw,
+    // with the circles drawn as ordinary objects or as sprites.
+    private static Timer benchMoveOnTop(int n, boolean sprites) {
+        GraphWin win = GraphWin.createOffscreen(WIDTH, HEIGHT);
+        createScene(win, n);
+        ArrayList<GraphicsObject> movers = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            Circle c = new Circle(new Point(50 + i * 90, HEIGHT / 2), 20);
+            c.setFill("green");
+            c.setSprite(sprites);
+            c.draw(win);
+            movers.add(c);
+        }
+        win.getImage();
+        Timer timer = new Timer(RUNS * 40);
+        for (int i = 0; timer.more(); i++) {
+            double d = (i % 2 == 0) ? 5 : -5;
+            timer.start();
+            for (GraphicsObject obj : movers)
+                obj.move(d, d);
+            sink += win.getImage().getRGB(0, 0);
+            timer.stop();
+        }
+        return timer;
+    }
+
+    // Time to undraw every shape, in random order.
+    private static Timer benchUndraw(int n) {
+        Timer timer = new Timer(RUNS);
+        for (int i = 0; timer.more(); i++) {
+            GraphWin win = GraphWin.createOffscreen(WIDTH, HEIGHT);
+            ArrayList<GraphicsObject> shapes = createScene(win, n);
+            Collections.shuffle(shapes, new Random(i));
+            timer.start();
+            for (GraphicsObject obj : shapes)
+                obj.undraw();
+            timer.stop();
+        }
+        return timer;
+    }
+
+    // Time to look up a color by name, either getting the shared
+    // instance from ColorRGB.named() or creating a new object with
+    // the ColorRGB(String) constructor.
+    private static Timer benchColorLookup(int n, boolean construct) {
+        String[] names = { "red", "Alice Blue", "darkgoldenrod3", "WHITE", "no such color" };
+        Timer timer = new Timer(RUNS * 10);
+        while (timer.more()) {
+            timer.start();
+            if (construct) {
+                for (int j = 0; j < n; j++)
+                    sink += new ColorRGB(names[j % names.length]).getColor().getRGB();
+            } else {
+                for (int j = 0; j < n; j++)
+                    sink += ColorRGB.named(names[j % names.length]).getColor().getRGB();
+            }
+            timer.stop();
+        }
+        return timer;
+    }
+
+    // Time to redraw a PointCloud with n points.  Moving the cloud
+    // forces all the points to be drawn again.
+    private static Timer benchPointCloud(int n) {
+        GraphWin win = GraphWin.createOffscreen(WIDTH, HEIGHT);
+        Random rand = new Random(1);
+        double[] xs = new double[n];
+        double[] ys = new double[n];
+        for (int i = 0; i < n; i++) {
+            xs[i] = rand.nextDouble() * WIDTH;
+            ys[i] = rand.nextDouble() * HEIGHT;
+        }
+        PointCloud cloud = new PointCloud(xs, ys);
+        cloud.draw(win);
+        Timer timer = new Timer(RUNS);
+        for (int i = 0; timer.more(); i++) {
+            double d = (i % 2 == 0) ? 1 : -1;
+            cloud.move(d, d);
+            timer.start();
+            sink += win.getImage().getRGB(0, 0);
+            timer.stop();
+        }
+        return timer;
+    }
+
+    // Time to transform a point to screen coordinates.
+    private static Timer benchTransform(int n) {
+        GraphWin win = GraphWin.createOffscreen(WIDTH, HEIGHT);
+        win.setCoords(-1, -1, 1, 1);
+        Point pt = new Point(0.25, 0.75);
+        Timer timer = new Timer(RUNS * 10);
+        while (timer.more()) {
+            timer.start();
+            for (int j = 0; j < n; j++)
+                sink += win.pointXYtoScreen(pt).x;
+            timer.stop();
+        }
+        return timer;
+    }
+}
@@ -1,45 +1,213 @@
 // CreateColors
 //
-// This program reads the color_names.txt file and creates the
-// code used to create the X11 color names in ColorRGB.java.
+// This program reads the color_names.txt file and generates
+// Graphics/ColorNames.java, the table of X11 color names used
+// by ColorRGB.  It is run as part of the build (see create_jar.bat):
+//
+//      javac CreateColors.java
+//      java CreateColors
 //
 // Unfortunately, I can no longer remember where I found the
 // data used in color_names.txt.  It's from the web somewhere.
 // I used this particular data because it included both one-
 // and multi-word names for colors like "alice blue".
+//
+// Rather than filling a HashMap when ColorRGB is loaded, the names
+// are stored in a fixed table using a perfect hash, so every name
+// has its own slot and a lookup only ever looks at one slot.  The
+// hash uses the "hash and displace" method: each name is first
+// hashed into one of a small number of buckets, and each bucket gets
+// a displacement (chosen here) that is mixed into a second hash to
+// find the name's slot.  Displacements are chosen for the largest
+// buckets first, while the table is still mostly empty.
 
 import java.io.FileInputStream;
 import java.io.FileNotFoundException;
+import java.io.PrintWriter;
+import java.util.ArrayList;
 import java.util.Scanner;
 
 public class CreateColors {
-    
+
+    // The table has TABLE_SIZE slots, and names are divided among
+    // BUCKETS buckets.  Both must be powers of two.
+    private static final int TABLE_SIZE = 1024;
+    private static final int BUCKETS = 256;
+
+    // This must be kept in sync with the hash() method written
+    // out by writeTable() below.
+    private static int hash(String name, int seed) {
+        int h = seed * 0x9e3779b9 ^ 0x811c9dc5;
+        for (int i = 0; i < name.length(); i++) {
+            char c = name.charAt(i);
+            if (c >= 'A' && c <= 'Z') c += 'a' - 'A';
+            h = (h ^ c) * 0x01000193;
+        }
+        h ^= h >>> 16;
+        h *= 0x85ebca6b;
+        h ^= h >>> 13;
+        h *= 0xc2b2ae35;
+        h ^= h >>> 16;
+        return h;
+    }
+
     public static void main(String[] args) throws FileNotFoundException {
 
+        ArrayList<String> names = new ArrayList<>();
+        ArrayList<Integer> colors = new ArrayList<>();
+
         FileInputStream colorFile = new FileInputStream("color_names.txt");
         Scanner sc = new Scanner(colorFile);
-        
+
         while (sc.hasNextLine()) {
-            
+
             String line = sc.nextLine();
             if (line.length() < 51) continue;
             if (line.charAt(44) != '#')
                 continue;
 
             String name1 = line.substring(0, 23);
-            String name2 = line.substring(23, 44);
             String color = line.substring(44, 51);
-            name1 = name1.strip();
-            name2 = name2.strip();
+            name1 = name1.strip().toLowerCase();
             color = color.strip();
 
-            System.out.printf("        colorNames.put(\"%s\", new Color(0x%s, 0x%s, 0x%s));\n",
-                name1,
-                color.substring(1, 3),
-                color.substring(3, 5),
-                color.substring(5, 7));
+            names.add(name1);
+            colors.add(Integer.parseInt(color.substring(1), 16));
         }
 
         sc.close();
+
+        // Sort the names into buckets.
+        ArrayList<ArrayList<Integer>> buckets = new ArrayList<>();
+        for (int b = 0; b < BUCKETS; b++)
+            buckets.add(new ArrayList<>());
+        for (int i = 0; i < names.size(); i++)
+            buckets.get(hash(names.get(i), 0) & (BUCKETS - 1)).add(i);
+
+        ArrayList<Integer> order = new ArrayList<>();
+        for (int b = 0; b < BUCKETS; b++)
+            order.add(b);
+        order.sort((a, b) -> buckets.get(b).size() - buckets.get(a).size());
+
+        // Find a displacement for each bucket that puts all its
+        // names in empty slots.
+        String[] table = new String[TABLE_SIZE];
+        int[] rgb = new int[TABLE_SIZE];
+        int[] displacement = new int[BUCKETS];
+        for (int b : order) {
+            ArrayList<Integer> bucket = buckets.get(b);
+            if (bucket.isEmpty()) continue;
+
+            for (int d = 1; ; d++) {
+                int[] slots = new int[bucket.size()];
+                boolean ok = true;
+                for (int k = 0; k < bucket.size() && ok; k++) {
+                    slots[k] = hash(names.get(bucket.get(k)), d) & (TABLE_SIZE - 1);
+                    if (table[slots[k]] != null) ok = false;
+                    for (int j = 0; j < k && ok; j++)
+                        if (slots[j] == slots[k]) ok = false;
+                }
+                if (!ok) continue;
+
+                displacement[b] = d;
+                for (int k = 0; k < bucket.size(); k++) {
+                    table[slots[k]] = names.get(bucket.get(k));
+                    rgb[slots[k]] = colors.get(bucket.get(k));
+                }
+                break;
+            }
+        }
+
+        PrintWriter out = new PrintWriter("Graphics/ColorNames.java");
+        writeTable(out, table, rgb, displacement, names.size());
+        out.close();
+        System.out.printf("Wrote %d colors to Graphics/ColorNames.java\n", names.size());
+    }
+
+    private static void writeTable(PrintWriter out, String[] table, int[] rgb,
+                                   int[] displacement, int count) {
+        out.println("package Graphics;");
+        out.println();
+        out.println("// This file is generated by CreateColors.java from color_names.txt.");
+        out.println("// Do not edit it by hand.");
+        out.println();
+        out.println("/**");
+        out.printf(" * The %d X11 color names known to <code>ColorRGB</code>.\n", count);
+        out.println(" * <p>");
+        out.println(" * The names are stored in a table using a perfect hash, so looking up");
+        out.println(" * a name only ever examines one slot, and doesn't allocate anything.");
+        out.println(" * <p>");
+        out.println(" * This class intentionally has package visibility.");
+        out.println(" */");
+        out.println("final class ColorNames {");
+        out.println();
+        out.println("    private ColorNames() {");
+        out.println("    }");
+        out.println();
+        out.println("    // The name in each slot of the table, or null for empty slots.");
+        out.println("    private static final String[] NAMES = {");
+        for (int i = 0; i < table.length; i++) {
+            if (table[i] == null)
+                out.println("        null,");
+            else
+                out.printf("        \"%s\",\n", table[i]);
+        }
+        out.println("    };");
+        out.println();
+        out.println("    // The RGB value for each slot of the table.");
+        out.println("    private static final int[] RGB = {");
+        for (int i = 0; i < rgb.length; i += 8) {
+            out.print("       ");
+            for (int j = i; j < i + 8 && j < rgb.length; j++)
+                out.printf(" 0x%06x,", rgb[j]);
+            out.println();
+        }
+        out.println("    };");
+        out.println();
+        out.println("    // The displacement for each bucket.");
+        out.println("    private static final int[] DISPLACEMENT = {");
+        for (int i = 0; i < displacement.length; i += 16) {
+            out.print("       ");
+            for (int j = i; j < i + 16 && j < displacement.length; j++)
+                out.printf(" %d,", displacement[j]);
+            out.println();
+        }
+        out.println("    };");
+        out.println();
+        out.println("    /**");
+        out.println("     * Returns the RGB value for an X11 color name.");
+        out.println("     * <p>");
+        out.println("     * Names are not case-sensitive.");
+        out.println("     * ");
+        out.println("     * @param name        The X11 name of the color.");
+        out.println("     * @return            The color as a packed RGB value, or -1 if");
+        out.println("     *                    the name is unknown.");
+        out.println("     */");
+        out.println("    static int lookup(String name) {");
+        out.printf("        int bucket = hash(name, 0) & %d;\n", BUCKETS - 1);
+        out.printf("        int slot = hash(name, DISPLACEMENT[bucket]) & %d;\n", TABLE_SIZE - 1);
+        out.println("        String candidate = NAMES[slot];");
+        out.println("        if (candidate == null || !candidate.equalsIgnoreCase(name))");
+        out.println("            return -1;");
+        out.println("        return RGB[slot];");
+        out.println("    }");
+        out.println();
+        out.println("    // Hashes a name, ignoring case.  This must match the hash");
+        out.println("    // used by CreateColors to build the table.");
+        out.println("    private static int hash(String name, int seed) {");
+        out.println("        int h = seed * 0x9e3779b9 ^ 0x811c9dc5;");
+        out.println("        for (int i = 0; i < name.length(); i++) {");
+        out.println("            char c = name.charAt(i);");
+        out.println("            if (c >= 'A' && c <= 'Z') c += 'a' - 'A';");
+        out.println("            h = (h ^ c) * 0x01000193;");
+        out.println("        }");
+        out.println("        h ^= h >>> 16;");
+        out.println("        h *= 0x85ebca6b;");
+        out.println("        h ^= h >>> 13;");
+        out.println("        h *= 0xc2b2ae35;");
+        out.println("        h ^= h >>> 16;");
+        out.println("        return h;");
+        out.println("    }");
+        out.println("}");
     }
 }
@@ -7,26 +7,36 @@ import java.awt.Graphics;
  */
 public class Circle extends GraphicsObject {
 
-    private Point center;
+    // The center is stored as plain coordinates rather
+    // than as a (drawable) Point object.
+    private double centerX;
+    private double centerY;
     private double radius;
     private ColorRGB color;
     private ColorRGB fillColor;
 
+    // Screen bounding box, computed by updateScreenGeometry().
+    private int screenX;
+    private int screenY;
+    private int screenWidth;
+    private int screenHeight;
+
     /**
      * Initializes a new <code>Circle</code> object given a
      * center and a radius.
      * <p>
-     * The Point object is not stored directly; it is
-     * copied instead.  The original object may be changed
-     * without affecting the <code>Circle</code>.
+     * The Point object is not stored directly; its
+     * coordinates are copied instead.  The original object
+     * may be changed without affecting the <code>Circle</code>.
      * 
      * @param center    The center of the circle
      * @param radius    The radius of the circle
      */
     public Circle(Point center, double radius) {
-        this.center = new Point(center);
+        this.centerX = center.getX();
+        this.centerY = center.getY();
         this.radius = radius;
-        this.color = new ColorRGB(0, 0, 0);
+        this.color = ColorRGB.of(0, 0, 0);
         this.fillColor = null;
     }
 
@@ -39,19 +49,20 @@ public class Circle extends GraphicsObject {
      * @param other     The Circle object to copy
      */
     public Circle(Circle other) {
-        this.center = new Point(other.center);
+        this.centerX = other.centerX;
+        this.centerY = other.centerY;
         this.radius = other.radius;
         this.color = other.color;
         this.fillColor = other.fillColor;
     }
 
     @Override
-    public void setOutline(ColorRGB color) {
+    protected void doSetOutline(ColorRGB color) {
         this.color = color;
     }
 
     @Override
-    public void setFill(ColorRGB color) {
+    protected void doSetFill(ColorRGB color) {
         this.fillColor = color;
     }
 
@@ -62,7 +73,7 @@ public class Circle extends GraphicsObject {
      *              the center of the circle.
      */
     public Point getCenter() {
-        return new Point(center);
+        return new Point(centerX, centerY);
     }
 
     /**
@@ -73,8 +84,8 @@ public class Circle extends GraphicsObject {
      *              bounding box
      */
     public Point getP1() {
-        double x = center.getX() - radius;
-        double y = center.getY() - radius;
+        double x = centerX - radius;
+        double y = centerY - radius;
         return new Point(x, y);
     }
 
@@ -86,33 +97,47 @@ public class Circle extends GraphicsObject {
      *              bounding box
      */
     public Point getP2() {
-        double x = center.getX() + radius;
-        double y = center.getY() + radius;
+        double x = centerX + radius;
+        double y = centerY + radius;
         return new Point(x, y);
     }
 
     @Override
-    protected void doDraw(Graphics g) {
-        java.awt.Point center = win.pointXYtoScreen(this.center);
+    protected void updateScreenGeometry(GraphWin win) {
         double halfWidth = win.xDistToScreen(radius);
         double halfHeight = win.yDistToScreen(radius);
-        double x = center.getX() - halfWidth;
-        double y = center.getY() - halfHeight;
+        screenX = (int)(win.toScreenX(centerX) - halfWidth);
+        screenY = (int)(win.toScreenY(centerY) - halfHeight);
+        screenWidth = (int)(halfWidth*2);
+        screenHeight = (int)(halfHeight*2);
+    }
+
+    @Override
+    protected void doDraw(Graphics g) {
+        checkScreenGeometry();
 
         // Draw the interior, if necessary.
         if (this.fillColor != null) {
             g.setColor(fillColor.getColor());
-            g.fillOval((int)x, (int)y, (int)(halfWidth*2), (int)(halfHeight*2));
+            g.fillOval(screenX, screenY, screenWidth, screenHeight);
         }
 
         // Draw the outline.
         g.setColor(color.getColor());
-        g.drawOval((int)x, (int)y, (int)(halfWidth*2), (int)(halfHeight*2));
+        g.drawOval(screenX, screenY, screenWidth, screenHeight);
+    }
+
+    @Override
+    protected java.awt.Rectangle getScreenBounds(GraphWin win) {
+        checkScreenGeometry();
+        return screenBounds(screenX, screenY,
+            screenX + screenWidth, screenY + screenHeight);
     }
 
     @Override
     protected void doMove(double dx, double dy) {
-        center.doMove(dx, dy);
+        centerX += dx;
+        centerY += dy;
     }
     
     @Override
@@ -0,0 +1,1233 @@
+package Graphics;
+
+// This file is generated by CreateColors.java from color_names.txt.
+// Do not edit it by hand.
+
+/**
+ * The 760 X11 color names known to <code>ColorRGB</code>.
+ * <p>
+ * The names are stored in a table using a perfect hash, so looking up
+ * a name only ever examines one slot, and doesn't allocate anything.
+ * <p>
+ * This class intentionally has package visibility.
+ */
+final class ColorNames {
+
+    private ColorNames() {
+    }
+
+    // The name in each slot of the table, or null for empty slots.
+    private static final String[] NAMES = {
+        "ivory4",
+        "tomato3",
+        "gray52",
+        "grey100",
+        "purple1",
+        "gray32",
+        "darkorange",
+        "cyan4",
+        "slateblue4",
+        "wheat3",
+        null,
+        "green",
+        "lightyellow2",
+        "linen",
+        null,
+        null,
+        "green1",
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        "cornflowerblue",
+        "sea green",
+        "cyan1",
+        "grey24",
+        "darksalmon",
+        null,
+        "black",
+        "gray10",
+        null,
+        null,
+        "violetred4",
+        "grey44",
+        "light slate blue",
+        "lightgoldenrod1",
+        "slate blue",
+        "darkseagreen2",
+        "khaki",
+        "turquoise1",
+        "turquoise",
+        "blanched almond",
+        null,
+        "gray90",
+        "thistle1",
+        "sandybrown",
+        null,
+        "grey67",
+        "gray54",
+        "slategray",
+        "grey21",
+        "limegreen",
+        "mistyrose1",
+        "gainsboro",
+        "moccasin",
+        "gray17",
+        null,
+        "grey62",
+        "seagreen2",
+        "burlywood1",
+        "deepskyblue3",
+        null,
+        "light green",
+        "brown3",
+        "paleturquoise",
+        "lemonchiffon1",
+        "grey90",
+        "tomato4",
+        "lightblue1",
+        "lightcoral",
+        null,
+        "deepskyblue",
+        "darkorchid3",
+        "tan1",
+        null,
+        "dark orchid",
+        "tan",
+        "gray38",
+        null,
+        "mediumaquamarine",
+        "forest green",
+        "azure3",
+        "slategray3",
+        null,
+        null,
+        null,
+        "dim gray",
+        null,
+        "slategrey4",
+        "royalblue4",
+        "grey82",
+        "grey71",
+        "lightcyan1",
+        null,
+        null,
+        "lightskyblue3",
+        null,
+        null,
+        "hotpink4",
+        "darkslategray1",
+        "seashell",
+        "grey22",
+        "orchid3",
+        "thistle",
+        "alice blue",
+        "mistyrose2",
+        null,
+        "gray39",
+        "slategrey",
+        "thistle3",
+        "darkorange2",
+        null,
+        "grey29",
+        "mediumorchid3",
+        "gold1",
+        "dark violet",
+        null,
+        "royalblue",
+        "gray40",
+        "gray30",
+        "lightcyan4",
+        null,
+        "lightsalmon2",
+        "lightgoldenrodyellow",
+        null,
+        null,
+        "cornsilk1",
+        "navyblue",
+        null,
+        null,
+        "deeppink3",
+        null,
+        null,
+        null,
+        "purple2",
+        "grey89",
+        "royalblue2",
+        null,
+        "deeppink",
+        "white smoke",
+        "mistyrose4",
+        null,
+        "steel blue",
+        "mediumseagreen",
+        "lightsteelblue",
+        "indian red",
+        null,
+        "wheat",
+        "red3",
+        null,
+        "grey25",
+        "grey65",
+        "dark khaki",
+        "grey86",
+        null,
+        "azure1",
+        null,
+        null,
+        null,
+        "lightsteelblue4",
+        null,
+        "grey18",
+        "dark grey",
+        "grey13",
+        "deep sky blue",
+        null,
+        "gray15",
+        "light gray",
+        null,
+        null,
+        null,
+        null,
+        null,
+        "turquoise4",
+        "grey2",
+        "seagreen3",
+        null,
+        null,
+        null,
+        "plum",
+        null,
+        "gray14",
+        "mediumblue",
+        null,
+        null,
+        "darkslategray2",
+        "grey66",
+        "lavender blush",
+        "gray1",
+        null,
+        null,
+        "dodgerblue1",
+        null,
+        "magenta2",
+        "grey9",
+        "darkslategrey2",
+        null,
+        "midnightblue",
+        "gray55",
+        null,
+        "snow3",
+        null,
+        "slategrey1",
+        null,
+        "darkseagreen",
+        "grey73",
+        "deeppink2",
+        null,
+        "cadetblue1",
+        "olivedrab3",
+        null,
+        "grey19",
+        "lavender",
+        "purple4",
+        "grey40",
+        "deepskyblue4",
+        "deepskyblue1",
+        "gray46",
+        null,
+        "gray89",
+        "skyblue1",
+        "darkslategray",
+        "gray18",
+        "grey12",
+        "gray4",
+        "light salmon",
+        null,
+        "chartreuse4",
+        null,
+        "gold2",
+        "navajowhite",
+        "ivory2",
+        null,
+        "lightslategray",
+        "gray53",
+        "gray56",
+        "medium slate blue",
+        null,
+        "darkmagenta",
+        "springgreen1",
+        "wheat4",
+        "pale turquoise",
+        "lawn green",
+        "seashell3",
+        "grey41",
+        "blueviolet",
+        "dark goldenrod",
+        "grey23",
+        "paleturquoise4",
+        "deepskyblue2",
+        null,
+        "dark blue",
+        "darkolivegreen4",
+        null,
+        null,
+        null,
+        "palegoldenrod",
+        null,
+        "lightskyblue",
+        "grey37",
+        null,
+        "peachpuff",
+        "honeydew2",
+        null,
+        "medium turquoise",
+        null,
+        "pink4",
+        "dark magenta",
+        "greenyellow",
+        "gray74",
+        "burlywood3",
+        "gray98",
+        "gray47",
+        null,
+        "lemonchiffon4",
+        "grey27",
+        "plum3",
+        "violet red",
+        "gray50",
+        null,
+        "grey83",
+        "orange red",
+        null,
+        "grey46",
+        "wheat2",
+        "papayawhip",
+        "gray68",
+        "gray91",
+        "coral3",
+        "gray87",
+        null,
+        "peach puff",
+        "gray28",
+        "gray49",
+        "violetred",
+        "navajo white",
+        null,
+        "springgreen2",
+        "slategrey3",
+        "navy blue",
+        "grey61",
+        null,
+        "rosybrown1",
+        "orangered1",
+        "yellow3",
+        null,
+        "maroon3",
+        "misty rose",
+        "grey17",
+        "thistle4",
+        "spring green",
+        "grey74",
+        "lemonchiffon3",
+        "gray6",
+        null,
+        "lightgrey",
+        "violet",
+        "grey77",
+        null,
+        "forestgreen",
+        "lightskyblue2",
+        "rosybrown4",
+        "dark slate gray",
+        "palevioletred3",
+        null,
+        null,
+        null,
+        "cadetblue3",
+        null,
+        null,
+        "grey70",
+        "red1",
+        "light slate grey",
+        "darkslategray4",
+        "lightsalmon",
+        "slateblue2",
+        "darkslateblue",
+        "powderblue",
+        "whitesmoke",
+        "blue violet",
+        "goldenrod2",
+        "gray",
+        "cyan2",
+        "dark cyan",
+        "goldenrod",
+        "magenta3",
+        "plum1",
+        null,
+        null,
+        null,
+        "gray41",
+        "mediumpurple2",
+        "gray92",
+        "grey98",
+        "sandy brown",
+        "orange",
+        "coral2",
+        null,
+        "violetred2",
+        "azure2",
+        "grey93",
+        "olivedrab1",
+        "paleturquoise3",
+        "gray13",
+        "yellow4",
+        "darkgoldenrod3",
+        "honeydew4",
+        null,
+        "grey28",
+        "darkseagreen4",
+        "gray62",
+        null,
+        "grey14",
+        "gray97",
+        "bisque",
+        null,
+        "ivory",
+        null,
+        null,
+        null,
+        "skyblue",
+        "springgreen3",
+        null,
+        "mediumpurple1",
+        "blue",
+        null,
+        null,
+        "slategray2",
+        "grey63",
+        "lavenderblush",
+        null,
+        "powder blue",
+        "deeppink1",
+        "grey78",
+        "light yellow",
+        null,
+        "bisque3",
+        "gray78",
+        "honeydew",
+        "seagreen",
+        "ghost white",
+        "royalblue3",
+        "cornflower blue",
+        "dark sea green",
+        "grey59",
+        "sky blue",
+        "steelblue4",
+        null,
+        "beige",
+        "aquamarine4",
+        null,
+        "firebrick",
+        "skyblue2",
+        "slateblue1",
+        "grey26",
+        "dark red",
+        "aquamarine2",
+        "grey5",
+        "navajowhite2",
+        "lightgoldenrod4",
+        "orange3",
+        "green2",
+        "palegreen3",
+        null,
+        "navy",
+        null,
+        null,
+        "grey7",
+        "lightpink2",
+        "gray23",
+        null,
+        "gold3",
+        null,
+        "tomato",
+        "medium purple",
+        null,
+        "dark turquoise",
+        "yellow green",
+        "dark slate grey",
+        null,
+        "khaki2",
+        "lightblue4",
+        "grey79",
+        "snow4",
+        "grey56",
+        "navajowhite1",
+        "goldenrod3",
+        null,
+        "grey48",
+        "dark orange",
+        null,
+        "grey42",
+        null,
+        "lavenderblush4",
+        "blue4",
+        "lightgoldenrod2",
+        "cyan",
+        null,
+        "slategray4",
+        "blue2",
+        "oldlace",
+        "antiquewhite3",
+        "dark slate blue",
+        "dodgerblue2",
+        "darkgreen",
+        "gray64",
+        "steelblue",
+        "gray86",
+        "gray96",
+        "grey75",
+        "grey38",
+        "paleturquoise2",
+        "gray24",
+        null,
+        "mediumvioletred",
+        "floral white",
+        "indianred1",
+        null,
+        "light pink",
+        null,
+        "tomato1",
+        "lightsteelblue2",
+        null,
+        "dark salmon",
+        "lemon chiffon",
+        null,
+        "light steel blue",
+        "darkslategrey4",
+        null,
+        "olivedrab2",
+        "lightyellow",
+        "mistyrose",
+        "honeydew1",
+        null,
+        null,
+        null,
+        "salmon",
+        "darkorange1",
+        "grey36",
+        "grey31",
+        "red2",
+        "darkblue",
+        "grey",
+        "peachpuff3",
+        "palevioletred4",
+        "grey4",
+        "darkturquoise",
+        "grey20",
+        "darkgrey",
+        null,
+        "grey57",
+        null,
+        "mintcream",
+        null,
+        "grey94",
+        "grey45",
+        null,
+        "darkseagreen3",
+        "khaki3",
+        "aliceblue",
+        null,
+        "dodger blue",
+        "chocolate3",
+        "light sea green",
+        null,
+        "snow",
+        "orange1",
+        null,
+        "grey85",
+        "aquamarine3",
+        null,
+        "springgreen",
+        "indianred3",
+        "gray81",
+        "lightblue2",
+        "grey43",
+        "grey80",
+        "gray29",
+        "cadetblue",
+        "indianred4",
+        "chartreuse1",
+        null,
+        null,
+        "tan2",
+        null,
+        "pink3",
+        "grey58",
+        "gray33",
+        "lime green",
+        "honeydew3",
+        null,
+        null,
+        null,
+        null,
+        "lightslategrey",
+        "brown4",
+        null,
+        null,
+        "chartreuse2",
+        "saddle brown",
+        "darkolivegreen3",
+        "grey11",
+        "salmon4",
+        "magenta",
+        "medium orchid",
+        "tan4",
+        null,
+        null,
+        null,
+        "antiquewhite",
+        "gray21",
+        null,
+        null,
+        "bisque1",
+        "saddlebrown",
+        "cornsilk2",
+        null,
+        "gray44",
+        "light blue",
+        "midnight blue",
+        "orchid2",
+        "mediumorchid1",
+        "grey35",
+        "grey64",
+        "palevioletred1",
+        "gray67",
+        "maroon",
+        "light goldenrod yellow",
+        "dimgray",
+        null,
+        null,
+        "peachpuff1",
+        "grey53",
+        "antique white",
+        "slategrey2",
+        null,
+        "grey88",
+        null,
+        "grey68",
+        null,
+        "brown1",
+        "gray57",
+        "green3",
+        "medium aquamarine",
+        "dim grey",
+        "medium blue",
+        null,
+        "yellowgreen",
+        "darkgoldenrod",
+        "hot pink",
+        "chocolate1",
+        "firebrick3",
+        null,
+        "gray83",
+        null,
+        "darkgray",
+        null,
+        "blue1",
+        null,
+        null,
+        "gray26",
+        "dark green",
+        "grey32",
+        "lightcyan",
+        "gray72",
+        "grey33",
+        null,
+        "lightgray",
+        "sienna4",
+        null,
+        "lightsalmon1",
+        "orangered4",
+        "gray19",
+        "gray95",
+        "grey92",
+        "palevioletred2",
+        null,
+        null,
+        "grey99",
+        "rosy brown",
+        "medium violet red",
+        "grey30",
+        "lightblue3",
+        "grey84",
+        "gray100",
+        "rosybrown",
+        "springgreen4",
+        "chartreuse3",
+        "brown2",
+        null,
+        null,
+        "azure",
+        "cyan3",
+        "indianred2",
+        "gold4",
+        null,
+        "pale violet red",
+        null,
+        "gray25",
+        null,
+        "gray5",
+        "lightskyblue4",
+        "violetred3",
+        null,
+        "slate grey",
+        null,
+        "grey60",
+        null,
+        null,
+        "bisque4",
+        null,
+        null,
+        null,
+        "tan3",
+        "lavenderblush1",
+        "light grey",
+        "lightsteelblue3",
+        "grey97",
+        "turquoise3",
+        "seagreen4",
+        null,
+        "firebrick1",
+        "magenta4",
+        "light cyan",
+        null,
+        "lavenderblush3",
+        "snow2",
+        "gray36",
+        "grey55",
+        "lemonchiffon",
+        "mediumorchid",
+        "firebrick4",
+        "light sky blue",
+        null,
+        "mediumspringgreen",
+        "gray27",
+        "gray12",
+        "mediumorchid2",
+        "lawngreen",
+        "gray0",
+        "gray75",
+        "green4",
+        "burlywood4",
+        "orchid4",
+        "grey95",
+        "rosybrown3",
+        null,
+        "lightyellow4",
+        null,
+        "grey34",
+        "salmon3",
+        null,
+        "darkseagreen1",
+        "palevioletred",
+        "yellow",
+        "darkolivegreen",
+        "cornsilk4",
+        "salmon1",
+        null,
+        null,
+        "darkviolet",
+        "grey81",
+        null,
+        "gold",
+        "hotpink",
+        null,
+        "dodgerblue3",
+        "gray69",
+        "skyblue3",
+        "yellow2",
+        "gray9",
+        "lightcyan2",
+        "turquoise2",
+        "orangered3",
+        null,
+        null,
+        "cadetblue2",
+        null,
+        null,
+        "deeppink4",
+        "grey6",
+        "grey50",
+        "hotpink3",
+        "dimgrey",
+        "lightyellow3",
+        null,
+        "cadetblue4",
+        "medium spring green",
+        "pale green",
+        "grey76",
+        "grey72",
+        null,
+        null,
+        "hotpink2",
+        "grey1",
+        "gray84",
+        "aquamarine",
+        "grey69",
+        "gray82",
+        "slate gray",
+        null,
+        "snow1",
+        "rosybrown2",
+        null,
+        "lightgreen",
+        "grey8",
+        "pink1",
+        "darkorchid2",
+        "violetred1",
+        "gray42",
+        "gray65",
+        "peachpuff4",
+        null,
+        "lightpink4",
+        "grey3",
+        null,
+        null,
+        null,
+        "sienna3",
+        null,
+        "pink2",
+        "navajowhite3",
+        "floralwhite",
+        null,
+        "gray99",
+        "darkkhaki",
+        null,
+        null,
+        null,
+        "gray34",
+        "lightsalmon3",
+        "tomato2",
+        "dodgerblue4",
+        null,
+        "lightblue",
+        "brown",
+        null,
+        null,
+        null,
+        "bisque2",
+        "dark gray",
+        "grey91",
+        "burlywood",
+        "gray3",
+        "gray58",
+        "palegreen",
+        null,
+        "lightsteelblue1",
+        "chartreuse",
+        "blue3",
+        "gray43",
+        "cornsilk",
+        "gray66",
+        "mediumorchid4",
+        null,
+        null,
+        "steelblue2",
+        null,
+        "grey16",
+        null,
+        "slategray1",
+        "darkorange4",
+        "peru",
+        "goldenrod1",
+        "khaki1",
+        "orange2",
+        "ghostwhite",
+        "lightcyan3",
+        "gray35",
+        "antiquewhite1",
+        "palegreen1",
+        "grey0",
+        "purple",
+        "cornsilk3",
+        null,
+        "old lace",
+        null,
+        "gray80",
+        "darkgoldenrod1",
+        "gray70",
+        "chocolate",
+        "skyblue4",
+        "maroon4",
+        null,
+        "salmon2",
+        "wheat1",
+        "gray51",
+        "lightskyblue1",
+        "maroon1",
+        "plum2",
+        "lightpink1",
+        "darkslategrey3",
+        "seashell4",
+        "gray22",
+        "aquamarine1",
+        "gray7",
+        "chocolate4",
+        null,
+        null,
+        "grey87",
+        "red",
+        null,
+        null,
+        "gray59",
+        "darkslategrey",
+        "grey52",
+        "indianred",
+        "azure4",
+        null,
+        null,
+        "lightgoldenrod",
+        null,
+        "purple3",
+        "darkolivegreen1",
+        "gray77",
+        "gray48",
+        null,
+        "orchid1",
+        null,
+        "darkgoldenrod4",
+        "medium sea green",
+        "olive drab",
+        "royal blue",
+        null,
+        "orangered",
+        null,
+        "peachpuff2",
+        "lavenderblush2",
+        null,
+        "mediumslateblue",
+        "ivory1",
+        "gray11",
+        "slateblue3",
+        "seashell2",
+        null,
+        null,
+        "paleturquoise1",
+        "darkorange3",
+        "gray45",
+        "burlywood2",
+        "seashell1",
+        null,
+        "gray63",
+        "palegreen4",
+        "light coral",
+        "coral1",
+        "sienna2",
+        "darkorchid4",
+        "gray94",
+        "lightyellow1",
+        "gray88",
+        "lemonchiffon2",
+        "mediumpurple",
+        null,
+        null,
+        null,
+        null,
+        "pale goldenrod",
+        null,
+        "dodgerblue",
+        "gray85",
+        "lightpink3",
+        "grey10",
+        "navajowhite4",
+        null,
+        "coral4",
+        "red4",
+        "thistle2",
+        "gray2",
+        "olivedrab",
+        "orchid",
+        "darkorchid",
+        "darkred",
+        "grey49",
+        "gray71",
+        "lightpink",
+        null,
+        "slateblue",
+        null,
+        null,
+        "grey96",
+        "sienna",
+        null,
+        "gray76",
+        null,
+        null,
+        "mediumpurple3",
+        "gray73",
+        "mediumturquoise",
+        "deep pink",
+        "darkslategray3",
+        "mistyrose3",
+        "mint cream",
+        null,
+        null,
+        null,
+        "darkolivegreen2",
+        "green yellow",
+        "darkslategrey1",
+        "palegreen2",
+        "gray37",
+        null,
+        "darkcyan",
+        "lightslateblue",
+        "royalblue1",
+        "darkorchid1",
+        "blanchedalmond",
+        "darkgoldenrod2",
+        null,
+        null,
+        "grey39",
+        null,
+        "grey47",
+        "gray8",
+        "maroon2",
+        "steelblue1",
+        "mediumpurple4",
+        "lightgoldenrod3",
+        "chocolate2",
+        "olivedrab4",
+        "firebrick2",
+        "gray31",
+        "light goldenrod",
+        "papaya whip",
+        "seagreen1",
+        "gray20",
+        "gray61",
+        null,
+        "light slate gray",
+        "orangered2",
+        "orange4",
+        "gray60",
+        "coral",
+        "antiquewhite4",
+        null,
+        "gray93",
+        "steelblue3",
+        null,
+        "lightseagreen",
+        "dark olive green",
+        "khaki4",
+        "sienna1",
+        "grey15",
+        "antiquewhite2",
+        "gray79",
+        "gray16",
+        "white",
+        null,
+        "pink",
+        null,
+        "goldenrod4",
+        "magenta1",
+        "cadet blue",
+        null,
+        null,
+        "grey54",
+        "hotpink1",
+        "plum4",
+        "ivory3",
+        "lightsalmon4",
+        "grey51",
+        "yellow1",
+        null,
+    };
+
+    // The RGB value for each slot of the table.
+    private static final int[] RGB = {
+        0x8b8b83, 0xcd4f39, 0x858585, 0xffffff, 0x9b30ff, 0x525252, 0xff8c00, 0x008b8b,
+        0x473c8b, 0xcdba96, 0x000000, 0x00ff00, 0xeeeed1, 0xfaf0e6, 0x000000, 0x000000,
+        0x00ff00, 0x000000, 0x000000, 0x000000, 0x000000, 0x000000, 0x000000, 0x6495ed,
+        0x2e8b57, 0x00ffff, 0x3d3d3d, 0xe9967a, 0x000000, 0x000000, 0x1a1a1a, 0x000000,
+        0x000000, 0x8b2252, 0x707070, 0x8470ff, 0xffec8b, 0x6a5acd, 0xb4eeb4, 0xf0e68c,
+        0x00f5ff, 0x40e0d0, 0xffebcd, 0x000000, 0xe5e5e5, 0xffe1ff, 0xf4a460, 0x000000,
+        0xababab, 0x8a8a8a, 0x708090, 0x363636, 0x32cd32, 0xffe4e1, 0xdcdcdc, 0xffe4b5,
+        0x2b2b2b, 0x000000, 0x9e9e9e, 0x4eee94, 0xffd39b, 0x009acd, 0x000000, 0x90ee90,
+        0xcd3333, 0xafeeee, 0xfffacd, 0xe5e5e5, 0x8b3626, 0xbfefff, 0xf08080, 0x000000,
+        0x00bfff, 0x9a32cd, 0xffa54f, 0x000000, 0x9932cc, 0xd2b48c, 0x616161, 0x000000,
+        0x66cdaa, 0x228b22, 0xc1cdcd, 0x9fb6cd, 0x000000, 0x000000, 0x000000, 0x696969,
+        0x000000, 0x6c7b8b, 0x27408b, 0xd1d1d1, 0xb5b5b5, 0xe0ffff, 0x000000, 0x000000,
+        0x8db6cd, 0x000000, 0x000000, 0x8b3a62, 0x97ffff, 0xfff5ee, 0x383838, 0xcd69c9,
+        0xd8bfd8, 0xf0f8ff, 0xeed5d2, 0x000000, 0x636363, 0x708090, 0xcdb5cd, 0xee7600,
+        0x000000, 0x4a4a4a, 0xb452cd, 0xffd700, 0x9400d3, 0x000000, 0x4169e1, 0x666666,
+        0x4d4d4d, 0x7a8b8b, 0x000000, 0xee9572, 0xfafad2, 0x000000, 0x000000, 0xfff8dc,
+        0x000080, 0x000000, 0x000000, 0xcd1076, 0x000000, 0x000000, 0x000000, 0x912cee,
+        0xe3e3e3, 0x436eee, 0x000000, 0xff1493, 0xf5f5f5, 0x8b7d7b, 0x000000, 0x4682b4,
+        0x3cb371, 0xb0c4de, 0xcd5c5c, 0x000000, 0xf5deb3, 0xcd0000, 0x000000, 0x404040,
+        0xa6a6a6, 0xbdb76b, 0xdbdbdb, 0x000000, 0xf0ffff, 0x000000, 0x000000, 0x000000,
+        0x6e7b8b, 0x000000, 0x2e2e2e, 0xa9a9a9, 0x212121, 0x00bfff, 0x000000, 0x262626,
+        0xd3d3d3, 0x000000, 0x000000, 0x000000, 0x000000, 0x000000, 0x00868b, 0x050505,
+        0x43cd80, 0x000000, 0x000000, 0x000000, 0xdda0dd, 0x000000, 0x242424, 0x0000cd,
+        0x000000, 0x000000, 0x8deeee, 0xa8a8a8, 0xfff0f5, 0x030303, 0x000000, 0x000000,
+        0x1e90ff, 0x000000, 0xee00ee, 0x171717, 0x8deeee, 0x000000, 0x191970, 0x8c8c8c,
+        0x000000, 0xcdc9c9, 0x000000, 0xc6e2ff, 0x000000, 0x8fbc8f, 0xbababa, 0xee1289,
+        0x000000, 0x98f5ff, 0x9acd32, 0x000000, 0x303030, 0xe6e6fa, 0x551a8b, 0x666666,
+        0x00688b, 0x00bfff, 0x757575, 0x000000, 0xe3e3e3, 0x87ceff, 0x2f4f4f, 0x2e2e2e,
+        0x1f1f1f, 0x0a0a0a, 0xffa07a, 0x000000, 0x458b00, 0x000000, 0xeec900, 0xffdead,
+        0xeeeee0, 0x000000, 0x778899, 0x878787, 0x8f8f8f, 0x7b68ee, 0x000000, 0x8b008b,
+        0x00ff7f, 0x8b7e66, 0xafeeee, 0x7cfc00, 0xcdc5bf, 0x696969, 0x8a2be2, 0xb8860b,
+        0x3b3b3b, 0x668b8b, 0x00b2ee, 0x000000, 0x00008b, 0x6e8b3d, 0x000000, 0x000000,
+        0x000000, 0xeee8aa, 0x000000, 0x87cefa, 0x5e5e5e, 0x000000, 0xffdab9, 0xe0eee0,
+        0x000000, 0x48d1cc, 0x000000, 0x8b636c, 0x8b008b, 0xadff2f, 0xbdbdbd, 0xcdaa7d,
+        0xfafafa, 0x787878, 0x000000, 0x8b8970, 0x454545, 0xcd96cd, 0xd02090, 0x7f7f7f,
+        0x000000, 0xd4d4d4, 0xff4500, 0x000000, 0x757575, 0xeed8ae, 0xffefd5, 0xadadad,
+        0xe8e8e8, 0xcd5b45, 0xdedede, 0x000000, 0xffdab9, 0x474747, 0x7d7d7d, 0xd02090,
+        0xffdead, 0x000000, 0x00ee76, 0x9fb6cd, 0x000080, 0x9c9c9c, 0x000000, 0xffc1c1,
+        0xff4500, 0xcdcd00, 0x000000, 0xcd2990, 0xffe4e1, 0x2b2b2b, 0x8b7b8b, 0x00ff7f,
+        0xbdbdbd, 0xcdc9a5, 0x0f0f0f, 0x000000, 0xd3d3d3, 0xee82ee, 0xc4c4c4, 0x000000,
+        0x228b22, 0xa4d3ee, 0x8b6969, 0x2f4f4f, 0xcd6889, 0x000000, 0x000000, 0x000000,
+        0x7ac5cd, 0x000000, 0x000000, 0xb3b3b3, 0xff0000, 0x778899, 0x528b8b, 0xffa07a,
+        0x7a67ee, 0x483d8b, 0xb0e0e6, 0xf5f5f5, 0x8a2be2, 0xeeb422, 0xbebebe, 0x00eeee,
+        0x008b8b, 0xdaa520, 0xcd00cd, 0xffbbff, 0x000000, 0x000000, 0x000000, 0x696969,
+        0x9f79ee, 0xebebeb, 0xfafafa, 0xf4a460, 0xffa500, 0xee6a50, 0x000000, 0xee3a8c,
+        0xe0eeee, 0xededed, 0xc0ff3e, 0x96cdcd, 0x212121, 0x8b8b00, 0xcd950c, 0x838b83,
+        0x000000, 0x474747, 0x698b69, 0x9e9e9e, 0x000000, 0x242424, 0xf7f7f7, 0xffe4c4,
+        0x000000, 0xfffff0, 0x000000, 0x000000, 0x000000, 0x87ceeb, 0x00cd66, 0x000000,
+        0xab82ff, 0x0000ff, 0x000000, 0x000000, 0xb9d3ee, 0xa1a1a1, 0xfff0f5, 0x000000,
+        0xb0e0e6, 0xff1493, 0xc7c7c7, 0xffffe0, 0x000000, 0xcdb79e, 0xc7c7c7, 0xf0fff0,
+        0x2e8b57, 0xf8f8ff, 0x3a5fcd, 0x6495ed, 0x8fbc8f, 0x969696, 0x87ceeb, 0x36648b,
+        0x000000, 0xf5f5dc, 0x458b74, 0x000000, 0xb22222, 0x7ec0ee, 0x836fff, 0x424242,
+        0x8b0000, 0x76eec6, 0x0d0d0d, 0xeecfa1, 0x8b814c, 0xcd8500, 0x00ee00, 0x7ccd7c,
+        0x000000, 0x000080, 0x000000, 0x000000, 0x121212, 0xeea2ad, 0x3b3b3b, 0x000000,
+        0xcdad00, 0x000000, 0xff6347, 0x9370db, 0x000000, 0x00ced1, 0x9acd32, 0x2f4f4f,
+        0x000000, 0xeee685, 0x68838b, 0xc9c9c9, 0x8b8989, 0x8f8f8f, 0xffdead, 0xcd9b1d,
+        0x000000, 0x7a7a7a, 0xff8c00, 0x000000, 0x6b6b6b, 0x000000, 0x8b8386, 0x00008b,
+        0xeedc82, 0x00ffff, 0x000000, 0x6c7b8b, 0x0000ee, 0xfdf5e6, 0xcdc0b0, 0x483d8b,
+        0x1c86ee, 0x006400, 0xa3a3a3, 0x4682b4, 0xdbdbdb, 0xf5f5f5, 0xbfbfbf, 0x616161,
+        0xaeeeee, 0x3d3d3d, 0x000000, 0xc71585, 0xfffaf0, 0xff6a6a, 0x000000, 0xffb6c1,
+        0x000000, 0xff6347, 0xbcd2ee, 0x000000, 0xe9967a, 0xfffacd, 0x000000, 0xb0c4de,
+        0x528b8b, 0x000000, 0xb3ee3a, 0xffffe0, 0xffe4e1, 0xf0fff0, 0x000000, 0x000000,
+        0x000000, 0xfa8072, 0xff7f00, 0x5c5c5c, 0x4f4f4f, 0xee0000, 0x00008b, 0xbebebe,
+        0xcdaf95, 0x8b475d, 0x0a0a0a, 0x00ced1, 0x333333, 0xa9a9a9, 0x000000, 0x919191,
+        0x000000, 0xf5fffa, 0x000000, 0xf0f0f0, 0x737373, 0x000000, 0x9bcd9b, 0xcdc673,
+        0xf0f8ff, 0x000000, 0x1e90ff, 0xcd661d, 0x20b2aa, 0x000000, 0xfffafa, 0xffa500,
+        0x000000, 0xd9d9d9, 0x66cdaa, 0x000000, 0x00ff7f, 0xcd5555, 0xcfcfcf, 0xb2dfee,
+        0x6e6e6e, 0xcccccc, 0x4a4a4a, 0x5f9ea0, 0x8b3a3a, 0x7fff00, 0x000000, 0x000000,
+        0xee9a49, 0x000000, 0xcd919e, 0x949494, 0x545454, 0x32cd32, 0xc1cdc1, 0x000000,
+        0x000000, 0x000000, 0x000000, 0x778899, 0x8b2323, 0x000000, 0x000000, 0x76ee00,
+        0x8b4513, 0xa2cd5a, 0x1c1c1c, 0x8b4c39, 0xff00ff, 0xba55d3, 0x8b5a2b, 0x000000,
+        0x000000, 0x000000, 0xfaebd7, 0x363636, 0x000000, 0x000000, 0xffe4c4, 0x8b4513,
+        0xeee8cd, 0x000000, 0x707070, 0xadd8e6, 0x191970, 0xee7ae9, 0xe066ff, 0x595959,
+        0xa3a3a3, 0xff82ab, 0xababab, 0xb03060, 0xfafad2, 0x696969, 0x000000, 0x000000,
+        0xffdab9, 0x878787, 0xfaebd7, 0xb9d3ee, 0x000000, 0xe0e0e0, 0x000000, 0xadadad,
+        0x000000, 0xff4040, 0x919191, 0x00cd00, 0x66cdaa, 0x696969, 0x0000cd, 0x000000,
+        0x9acd32, 0xb8860b, 0xff69b4, 0xff7f24, 0xcd2626, 0x000000, 0xd4d4d4, 0x000000,
+        0xa9a9a9, 0x000000, 0x0000ff, 0x000000, 0x000000, 0x424242, 0x006400, 0x525252,
+        0xe0ffff, 0xb8b8b8, 0x545454, 0x000000, 0xd3d3d3, 0x8b4726, 0x000000, 0xffa07a,
+        0x8b2500, 0x303030, 0xf2f2f2, 0xebebeb, 0xee799f, 0x000000, 0x000000, 0xfcfcfc,
+        0xbc8f8f, 0xc71585, 0x4d4d4d, 0x9ac0cd, 0xd6d6d6, 0xffffff, 0xbc8f8f, 0x008b45,
+        0x66cd00, 0xee3b3b, 0x000000, 0x000000, 0xf0ffff, 0x00cdcd, 0xee6363, 0x8b7500,
+        0x000000, 0xdb7093, 0x000000, 0x404040, 0x000000, 0x0d0d0d, 0x607b8b, 0xcd3278,
+        0x000000, 0x708090, 0x000000, 0x999999, 0x000000, 0x000000, 0x8b7d6b, 0x000000,
+        0x000000, 0x000000, 0xcd853f, 0xfff0f5, 0xd3d3d3, 0xa2b5cd, 0xf7f7f7, 0x00c5cd,
+        0x2e8b57, 0x000000, 0xff3030, 0x8b008b, 0xe0ffff, 0x000000, 0xcdc1c5, 0xeee9e9,
+        0x5c5c5c, 0x8c8c8c, 0xfffacd, 0xba55d3, 0x8b1a1a, 0x87cefa, 0x000000, 0x00fa9a,
+        0x454545, 0x1f1f1f, 0xd15fee, 0x7cfc00, 0x000000, 0xbfbfbf, 0x008b00, 0x8b7355,
+        0x8b4789, 0xf2f2f2, 0xcd9b9b, 0x000000, 0x8b8b7a, 0x000000, 0x575757, 0xcd7054,
+        0x000000, 0xc1ffc1, 0xdb7093, 0xffff00, 0x556b2f, 0x8b8878, 0xff8c69, 0x000000,
+        0x000000, 0x9400d3, 0xcfcfcf, 0x000000, 0xffd700, 0xff69b4, 0x000000, 0x1874cd,
+        0xb0b0b0, 0x6ca6cd, 0xeeee00, 0x171717, 0xd1eeee, 0x00e5ee, 0xcd3700, 0x000000,
+        0x000000, 0x8ee5ee, 0x000000, 0x000000, 0x8b0a50, 0x0f0f0f, 0x7f7f7f, 0xcd6090,
+        0x696969, 0xcdcdb4, 0x000000, 0x53868b, 0x00fa9a, 0x98fb98, 0xc2c2c2, 0xb8b8b8,
+        0x000000, 0x000000, 0xee6aa7, 0x030303, 0xd6d6d6, 0x7fffd4, 0xb0b0b0, 0xd1d1d1,
+        0x708090, 0x000000, 0xfffafa, 0xeeb4b4, 0x000000, 0x90ee90, 0x141414, 0xffb5c5,
+        0xb23aee, 0xff3e96, 0x6b6b6b, 0xa6a6a6, 0x8b7765, 0x000000, 0x8b5f65, 0x080808,
+        0x000000, 0x000000, 0x000000, 0xcd6839, 0x000000, 0xeea9b8, 0xcdb38b, 0xfffaf0,
+        0x000000, 0xfcfcfc, 0xbdb76b, 0x000000, 0x000000, 0x000000, 0x575757, 0xcd8162,
+        0xee5c42, 0x104e8b, 0x000000, 0xadd8e6, 0xa52a2a, 0x000000, 0x000000, 0x000000,
+        0xeed5b7, 0xa9a9a9, 0xe8e8e8, 0xdeb887, 0x080808, 0x949494, 0x98fb98, 0x000000,
+        0xcae1ff, 0x7fff00, 0x0000cd, 0x6e6e6e, 0xfff8dc, 0xa8a8a8, 0x7a378b, 0x000000,
+        0x000000, 0x5cacee, 0x000000, 0x292929, 0x000000, 0xc6e2ff, 0x8b4500, 0xcd853f,
+        0xffc125, 0xfff68f, 0xee9a00, 0xf8f8ff, 0xb4cdcd, 0x595959, 0xffefdb, 0x9aff9a,
+        0x000000, 0xa020f0, 0xcdc8b1, 0x000000, 0xfdf5e6, 0x000000, 0xcccccc, 0xffb90f,
+        0xb3b3b3, 0xd2691e, 0x4a708b, 0x8b1c62, 0x000000, 0xee8262, 0xffe7ba, 0x828282,
+        0xb0e2ff, 0xff34b3, 0xeeaeee, 0xffaeb9, 0x79cdcd, 0x8b8682, 0x383838, 0x7fffd4,
+        0x121212, 0x8b4513, 0x000000, 0x000000, 0xdedede, 0xff0000, 0x000000, 0x000000,
+        0x969696, 0x2f4f4f, 0x858585, 0xcd5c5c, 0x838b8b, 0x000000, 0x000000, 0xeedd82,
+        0x000000, 0x7d26cd, 0xcaff70, 0xc4c4c4, 0x7a7a7a, 0x000000, 0xff83fa, 0x000000,
+        0x8b6508, 0x3cb371, 0x6b8e23, 0x4169e1, 0x000000, 0xff4500, 0x000000, 0xeecbad,
+        0xeee0e5, 0x000000, 0x7b68ee, 0xfffff0, 0x1c1c1c, 0x6959cd, 0xeee5de, 0x000000,
+        0x000000, 0xbbffff, 0xcd6600, 0x737373, 0xeec591, 0xfff5ee, 0x000000, 0xa1a1a1,
+        0x548b54, 0xf08080, 0xff7256, 0xee7942, 0x68228b, 0xf0f0f0, 0xffffe0, 0xe0e0e0,
+        0xeee9bf, 0x9370db, 0x000000, 0x000000, 0x000000, 0x000000, 0xeee8aa, 0x000000,
+        0x1e90ff, 0xd9d9d9, 0xcd8c95, 0x1a1a1a, 0x8b795e, 0x000000, 0x8b3e2f, 0x8b0000,
+        0xeed2ee, 0x050505, 0x6b8e23, 0xda70d6, 0x9932cc, 0x8b0000, 0x7d7d7d, 0xb5b5b5,
+        0xffb6c1, 0x000000, 0x6a5acd, 0x000000, 0x000000, 0xf5f5f5, 0xa0522d, 0x000000,
+        0xc2c2c2, 0x000000, 0x000000, 0x8968cd, 0xbababa, 0x48d1cc, 0xff1493, 0x79cdcd,
+        0xcdb7b5, 0xf5fffa, 0x000000, 0x000000, 0x000000, 0xbcee68, 0xadff2f, 0x97ffff,
+        0x90ee90, 0x5e5e5e, 0x000000, 0x008b8b, 0x8470ff, 0x4876ff, 0xbf3eff, 0xffebcd,
+        0xeead0e, 0x000000, 0x000000, 0x636363, 0x000000, 0x787878, 0x141414, 0xee30a7,
+        0x63b8ff, 0x5d478b, 0xcdbe70, 0xee7621, 0x698b22, 0xee2c2c, 0x4f4f4f, 0xeedd82,
+        0xffefd5, 0x54ff9f, 0x333333, 0x9c9c9c, 0x000000, 0x778899, 0xee4000, 0x8b5a00,
+        0x999999, 0xff7f50, 0x8b8378, 0x000000, 0xededed, 0x4f94cd, 0x000000, 0x20b2aa,
+        0x556b2f, 0x8b864e, 0xff8247, 0x262626, 0xeedfcc, 0xc9c9c9, 0x292929, 0xffffff,
+        0x000000, 0xffc0cb, 0x000000, 0x8b6914, 0xff00ff, 0x5f9ea0, 0x000000, 0x000000,
+        0x8a8a8a, 0xff6eb4, 0x8b668b, 0xcdcdc1, 0x8b5742, 0x828282, 0xffff00, 0x000000,
+    };
+
+    // The displacement for each bucket.
+    private static final int[] DISPLACEMENT = {
+        2, 2, 1, 1, 8, 2, 7, 12, 0, 10, 5, 1, 1, 3, 2, 3,
+        12, 10, 3, 8, 10, 1, 3, 1, 7, 1, 5, 1, 1, 7, 1, 4,
+        1, 0, 11, 1, 3, 2, 15, 11, 1, 7, 3, 2, 1, 2, 3, 2,
+        9, 10, 1, 3, 5, 12, 1, 2, 40, 5, 10, 0, 0, 5, 14, 1,
+        9, 5, 2, 4, 4, 0, 3, 2, 1, 18, 9, 10, 4, 18, 4, 4,
+        1, 2, 8, 1, 3, 1, 8, 12, 1, 5, 12, 5, 1, 20, 1, 12,
+        4, 1, 1, 1, 3, 18, 4, 3, 2, 11, 6, 2, 8, 12, 1, 10,
+        0, 12, 8, 2, 6, 9, 3, 1, 3, 3, 5, 1, 7, 9, 1, 1,
+        3, 6, 1, 2, 0, 9, 2, 2, 2, 0, 0, 8, 1, 4, 0, 2,
+        9, 2, 2, 1, 14, 8, 11, 14, 11, 1, 1, 2, 1, 26, 2, 2,
+        19, 2, 5, 2, 1, 10, 2, 3, 18, 2, 1, 5, 1, 2, 6, 1,
+        10, 1, 5, 4, 5, 2, 3, 3, 1, 57, 15, 6, 8, 11, 1, 9,
+        2, 9, 13, 6, 16, 17, 5, 1, 8, 3, 37, 2, 20, 26, 21, 8,
+        4, 5, 3, 31, 2, 16, 1, 1, 2, 43, 7, 8, 1, 23, 5, 19,
+        4, 16, 11, 2, 13, 1, 17, 7, 3, 15, 6, 2, 0, 4, 2, 17,
+        1, 5, 9, 3, 2, 15, 4, 3, 3, 15, 21, 5, 1, 1, 3, 11,
+    };
+
+    /**
+     * Returns the RGB value for an X11 color name.
+     * <p>
+     * Names are not case-sensitive.
+     * 
+     * @param name        The X11 name of the color.
+     * @return            The color as a packed RGB value, or -1 if
+     *                    the name is unknown.
+     */
+    static int lookup(String name) {
+        int bucket = hash(name, 0) & 255;
+        int slot = hash(name, DISPLACEMENT[bucket]) & 1023;
+        String candidate = NAMES[slot];
+        if (candidate == null || !candidate.equalsIgnoreCase(name))
+            return -1;
+        return RGB[slot];
+    }
+
+    // Hashes a name, ignoring case.  This must match the hash
+    // used by CreateColors to build the table.
+    private static int hash(String name, int seed) {
+        int h = seed * 0x9e3779b9 ^ 0x811c9dc5;
+        for (int i = 0; i < name.length(); i++) {
+            char c = name.charAt(i);
+            if (c >= 'A' && c <= 'Z') c += 'a' - 'A';
+            h = (h ^ c) * 0x01000193;
+        }
+        h ^= h >>> 16;
+        h *= 0x85ebca6b;
+        h ^= h >>> 13;
+        h *= 0xc2b2ae35;
+        h ^= h >>> 16;
+        return h;
+    }
+}
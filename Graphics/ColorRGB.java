@@ -2,7 +2,7 @@ package Graphics;
 
 import java.awt.Color;
 
-import java.util.HashMap;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * ColorRGB encapsulates as color.
@@ -16,801 +16,116 @@ import java.util.HashMap;
  * specifies an X11 color.  A list of the supported X11
  * colors can be found <a href="https://www.w3schools.com/colors/colors_x11.asp">here</a>.
  * <p>
- * ColorRGB objects are immutable.
+ * ColorRGB objects are immutable, so there is no need to have more than
+ * one for any given color.  The static factory methods <code>of()</code>
+ * and <code>named()</code> always return the same <code>ColorRGB</code>
+ * (wrapping the same <code>java.awt.Color</code>) for the same color, so
+ * a scene with thousands of black shapes only has one black
+ * <code>ColorRGB</code>.  They should be used in preference to the
+ * constructors.
  */
 public class ColorRGB {
     
-    private static HashMap<String, Color> colorNames;
-    private final Color color;
+    // Every ColorRGB returned by of() or named(), keyed by its RGB value.
+    private static final ConcurrentHashMap<Integer, ColorRGB> interned =
+        new ConcurrentHashMap<>();
 
-    static {
-        colorNames = new HashMap<String, Color>();
+    // A small direct-mapped cache in front of interned, so that looking
+    // up a recently-used color doesn't even need to box its RGB value.
+    // Entries may be overwritten at any time, but they are always
+    // instances from interned, so a hit is always the right object.
+    private static final int RECENT_SIZE = 1024;
+    private static final ColorRGB[] recent = new ColorRGB[RECENT_SIZE];
 
-        // This is generated by CreateColors.java.
-        colorNames.put("aliceblue", new Color(0xf0, 0xf8, 0xff));
-        colorNames.put("alice blue", new Color(0xf0, 0xf8, 0xff));
-        colorNames.put("antiquewhite", new Color(0xfa, 0xeb, 0xd7));
-        colorNames.put("antique white", new Color(0xfa, 0xeb, 0xd7));
-        colorNames.put("antiquewhite1", new Color(0xff, 0xef, 0xdb));
-        colorNames.put("antiquewhite2", new Color(0xee, 0xdf, 0xcc));
-        colorNames.put("antiquewhite3", new Color(0xcd, 0xc0, 0xb0));
-        colorNames.put("antiquewhite4", new Color(0x8b, 0x83, 0x78));
-        colorNames.put("aquamarine", new Color(0x7f, 0xff, 0xd4));
-        colorNames.put("aquamarine1", new Color(0x7f, 0xff, 0xd4));
-        colorNames.put("aquamarine2", new Color(0x76, 0xee, 0xc6));
-        colorNames.put("aquamarine3", new Color(0x66, 0xcd, 0xaa));
-        colorNames.put("aquamarine4", new Color(0x45, 0x8b, 0x74));
-        colorNames.put("azure", new Color(0xf0, 0xff, 0xff));
-        colorNames.put("azure1", new Color(0xf0, 0xff, 0xff));
-        colorNames.put("azure2", new Color(0xe0, 0xee, 0xee));
-        colorNames.put("azure3", new Color(0xc1, 0xcd, 0xcd));
-        colorNames.put("azure4", new Color(0x83, 0x8b, 0x8b));
-        colorNames.put("beige", new Color(0xf5, 0xf5, 0xdc));
-        colorNames.put("bisque", new Color(0xff, 0xe4, 0xc4));
-        colorNames.put("bisque1", new Color(0xff, 0xe4, 0xc4));
-        colorNames.put("bisque2", new Color(0xee, 0xd5, 0xb7));
-        colorNames.put("bisque3", new Color(0xcd, 0xb7, 0x9e));
-        colorNames.put("bisque4", new Color(0x8b, 0x7d, 0x6b));
-        colorNames.put("black", new Color(0x00, 0x00, 0x00));
-        colorNames.put("blanched almond", new Color(0xff, 0xeb, 0xcd));
-        colorNames.put("blanchedalmond", new Color(0xff, 0xeb, 0xcd));
-        colorNames.put("blue", new Color(0x00, 0x00, 0xff));
-        colorNames.put("blue1", new Color(0x00, 0x00, 0xff));
-        colorNames.put("blue2", new Color(0x00, 0x00, 0xee));
-        colorNames.put("blue3", new Color(0x00, 0x00, 0xcd));
-        colorNames.put("blue4", new Color(0x00, 0x00, 0x8b));
-        colorNames.put("blueviolet", new Color(0x8a, 0x2b, 0xe2));
-        colorNames.put("blue violet", new Color(0x8a, 0x2b, 0xe2));
-        colorNames.put("brown", new Color(0xa5, 0x2a, 0x2a));
-        colorNames.put("brown1", new Color(0xff, 0x40, 0x40));
-        colorNames.put("brown2", new Color(0xee, 0x3b, 0x3b));
-        colorNames.put("brown3", new Color(0xcd, 0x33, 0x33));
-        colorNames.put("brown4", new Color(0x8b, 0x23, 0x23));
-        colorNames.put("burlywood", new Color(0xde, 0xb8, 0x87));
-        colorNames.put("burlywood1", new Color(0xff, 0xd3, 0x9b));
-        colorNames.put("burlywood2", new Color(0xee, 0xc5, 0x91));
-        colorNames.put("burlywood3", new Color(0xcd, 0xaa, 0x7d));
-        colorNames.put("burlywood4", new Color(0x8b, 0x73, 0x55));
-        colorNames.put("cadetblue", new Color(0x5f, 0x9e, 0xa0));
-        colorNames.put("cadet blue", new Color(0x5f, 0x9e, 0xa0));
-        colorNames.put("cadetblue1", new Color(0x98, 0xf5, 0xff));
-        colorNames.put("cadetblue2", new Color(0x8e, 0xe5, 0xee));
-        colorNames.put("cadetblue3", new Color(0x7a, 0xc5, 0xcd));
-        colorNames.put("cadetblue4", new Color(0x53, 0x86, 0x8b));
-        colorNames.put("chartreuse", new Color(0x7f, 0xff, 0x00));
-        colorNames.put("chartreuse1", new Color(0x7f, 0xff, 0x00));
-        colorNames.put("chartreuse2", new Color(0x76, 0xee, 0x00));
-        colorNames.put("chartreuse3", new Color(0x66, 0xcd, 0x00));
-        colorNames.put("chartreuse4", new Color(0x45, 0x8b, 0x00));
-        colorNames.put("chocolate", new Color(0xd2, 0x69, 0x1e));
-        colorNames.put("chocolate1", new Color(0xff, 0x7f, 0x24));
-        colorNames.put("chocolate2", new Color(0xee, 0x76, 0x21));
-        colorNames.put("chocolate3", new Color(0xcd, 0x66, 0x1d));
-        colorNames.put("chocolate4", new Color(0x8b, 0x45, 0x13));
-        colorNames.put("coral", new Color(0xff, 0x7f, 0x50));
-        colorNames.put("coral1", new Color(0xff, 0x72, 0x56));
-        colorNames.put("coral2", new Color(0xee, 0x6a, 0x50));
-        colorNames.put("coral3", new Color(0xcd, 0x5b, 0x45));
-        colorNames.put("coral4", new Color(0x8b, 0x3e, 0x2f));
-        colorNames.put("cornflower blue", new Color(0x64, 0x95, 0xed));
-        colorNames.put("cornflowerblue", new Color(0x64, 0x95, 0xed));
-        colorNames.put("cornsilk", new Color(0xff, 0xf8, 0xdc));
-        colorNames.put("cornsilk1", new Color(0xff, 0xf8, 0xdc));
-        colorNames.put("cornsilk2", new Color(0xee, 0xe8, 0xcd));
-        colorNames.put("cornsilk3", new Color(0xcd, 0xc8, 0xb1));
-        colorNames.put("cornsilk4", new Color(0x8b, 0x88, 0x78));
-        colorNames.put("cyan", new Color(0x00, 0xff, 0xff));
-        colorNames.put("cyan1", new Color(0x00, 0xff, 0xff));
-        colorNames.put("cyan2", new Color(0x00, 0xee, 0xee));
-        colorNames.put("cyan3", new Color(0x00, 0xcd, 0xcd));
-        colorNames.put("cyan4", new Color(0x00, 0x8b, 0x8b));
-        colorNames.put("dark blue", new Color(0x00, 0x00, 0x8b));
-        colorNames.put("darkblue", new Color(0x00, 0x00, 0x8b));
-        colorNames.put("darkcyan", new Color(0x00, 0x8b, 0x8b));
-        colorNames.put("dark cyan", new Color(0x00, 0x8b, 0x8b));
-        colorNames.put("darkgoldenrod", new Color(0xb8, 0x86, 0x0b));
-        colorNames.put("dark goldenrod", new Color(0xb8, 0x86, 0x0b));
-        colorNames.put("darkgoldenrod1", new Color(0xff, 0xb9, 0x0f));
-        colorNames.put("darkgoldenrod2", new Color(0xee, 0xad, 0x0e));
-        colorNames.put("darkgoldenrod3", new Color(0xcd, 0x95, 0x0c));
-        colorNames.put("darkgoldenrod4", new Color(0x8b, 0x65, 0x08));
-        colorNames.put("dark gray", new Color(0xa9, 0xa9, 0xa9));
-        colorNames.put("darkgray", new Color(0xa9, 0xa9, 0xa9));
-        colorNames.put("darkgreen", new Color(0x00, 0x64, 0x00));
-        colorNames.put("dark green", new Color(0x00, 0x64, 0x00));
-        colorNames.put("dark grey", new Color(0xa9, 0xa9, 0xa9));
-        colorNames.put("darkgrey", new Color(0xa9, 0xa9, 0xa9));
-        colorNames.put("dark khaki", new Color(0xbd, 0xb7, 0x6b));
-        colorNames.put("darkkhaki", new Color(0xbd, 0xb7, 0x6b));
-        colorNames.put("dark magenta", new Color(0x8b, 0x00, 0x8b));
-        colorNames.put("darkmagenta", new Color(0x8b, 0x00, 0x8b));
-        colorNames.put("dark olive green", new Color(0x55, 0x6b, 0x2f));
-        colorNames.put("darkolivegreen", new Color(0x55, 0x6b, 0x2f));
-        colorNames.put("darkolivegreen1", new Color(0xca, 0xff, 0x70));
-        colorNames.put("darkolivegreen2", new Color(0xbc, 0xee, 0x68));
-        colorNames.put("darkolivegreen3", new Color(0xa2, 0xcd, 0x5a));
-        colorNames.put("darkolivegreen4", new Color(0x6e, 0x8b, 0x3d));
-        colorNames.put("dark orange", new Color(0xff, 0x8c, 0x00));
-        colorNames.put("darkorange", new Color(0xff, 0x8c, 0x00));
-        colorNames.put("darkorange1", new Color(0xff, 0x7f, 0x00));
-        colorNames.put("darkorange2", new Color(0xee, 0x76, 0x00));
-        colorNames.put("darkorange3", new Color(0xcd, 0x66, 0x00));
-        colorNames.put("darkorange4", new Color(0x8b, 0x45, 0x00));
-        colorNames.put("darkorchid", new Color(0x99, 0x32, 0xcc));
-        colorNames.put("dark orchid", new Color(0x99, 0x32, 0xcc));
-        colorNames.put("darkorchid1", new Color(0xbf, 0x3e, 0xff));
-        colorNames.put("darkorchid2", new Color(0xb2, 0x3a, 0xee));
-        colorNames.put("darkorchid3", new Color(0x9a, 0x32, 0xcd));
-        colorNames.put("darkorchid4", new Color(0x68, 0x22, 0x8b));
-        colorNames.put("dark red", new Color(0x8b, 0x00, 0x00));
-        colorNames.put("darkred", new Color(0x8b, 0x00, 0x00));
-        colorNames.put("dark salmon", new Color(0xe9, 0x96, 0x7a));
-        colorNames.put("darksalmon", new Color(0xe9, 0x96, 0x7a));
-        colorNames.put("dark sea green", new Color(0x8f, 0xbc, 0x8f));
-        colorNames.put("darkseagreen", new Color(0x8f, 0xbc, 0x8f));
-        colorNames.put("darkseagreen1", new Color(0xc1, 0xff, 0xc1));
-        colorNames.put("darkseagreen2", new Color(0xb4, 0xee, 0xb4));
-        colorNames.put("darkseagreen3", new Color(0x9b, 0xcd, 0x9b));
-        colorNames.put("darkseagreen4", new Color(0x69, 0x8b, 0x69));
-        colorNames.put("dark slate blue", new Color(0x48, 0x3d, 0x8b));
-        colorNames.put("darkslateblue", new Color(0x48, 0x3d, 0x8b));
-        colorNames.put("dark slate gray", new Color(0x2f, 0x4f, 0x4f));
-        colorNames.put("darkslategray", new Color(0x2f, 0x4f, 0x4f));
-        colorNames.put("darkslategray1", new Color(0x97, 0xff, 0xff));
-        colorNames.put("darkslategray2", new Color(0x8d, 0xee, 0xee));
-        colorNames.put("darkslategray3", new Color(0x79, 0xcd, 0xcd));
-        colorNames.put("darkslategray4", new Color(0x52, 0x8b, 0x8b));
-        colorNames.put("dark slate grey", new Color(0x2f, 0x4f, 0x4f));
-        colorNames.put("darkslategrey", new Color(0x2f, 0x4f, 0x4f));
-        colorNames.put("darkslategrey1", new Color(0x97, 0xff, 0xff));
-        colorNames.put("darkslategrey2", new Color(0x8d, 0xee, 0xee));
-        colorNames.put("darkslategrey3", new Color(0x79, 0xcd, 0xcd));
-        colorNames.put("darkslategrey4", new Color(0x52, 0x8b, 0x8b));
-        colorNames.put("dark turquoise", new Color(0x00, 0xce, 0xd1));
-        colorNames.put("darkturquoise", new Color(0x00, 0xce, 0xd1));
-        colorNames.put("darkviolet", new Color(0x94, 0x00, 0xd3));
-        colorNames.put("dark violet", new Color(0x94, 0x00, 0xd3));
-        colorNames.put("deep pink", new Color(0xff, 0x14, 0x93));
-        colorNames.put("deeppink", new Color(0xff, 0x14, 0x93));
-        colorNames.put("deeppink1", new Color(0xff, 0x14, 0x93));
-        colorNames.put("deeppink2", new Color(0xee, 0x12, 0x89));
-        colorNames.put("deeppink3", new Color(0xcd, 0x10, 0x76));
-        colorNames.put("deeppink4", new Color(0x8b, 0x0a, 0x50));
-        colorNames.put("deepskyblue", new Color(0x00, 0xbf, 0xff));
-        colorNames.put("deep sky blue", new Color(0x00, 0xbf, 0xff));
-        colorNames.put("deepskyblue1", new Color(0x00, 0xbf, 0xff));
-        colorNames.put("deepskyblue2", new Color(0x00, 0xb2, 0xee));
-        colorNames.put("deepskyblue3", new Color(0x00, 0x9a, 0xcd));
-        colorNames.put("deepskyblue4", new Color(0x00, 0x68, 0x8b));
-        colorNames.put("dimgray", new Color(0x69, 0x69, 0x69));
-        colorNames.put("dim gray", new Color(0x69, 0x69, 0x69));
-        colorNames.put("dim grey", new Color(0x69, 0x69, 0x69));
-        colorNames.put("dimgrey", new Color(0x69, 0x69, 0x69));
-        colorNames.put("dodger blue", new Color(0x1e, 0x90, 0xff));
-        colorNames.put("dodgerblue", new Color(0x1e, 0x90, 0xff));
-        colorNames.put("dodgerblue1", new Color(0x1e, 0x90, 0xff));
-        colorNames.put("dodgerblue2", new Color(0x1c, 0x86, 0xee));
-        colorNames.put("dodgerblue3", new Color(0x18, 0x74, 0xcd));
-        colorNames.put("dodgerblue4", new Color(0x10, 0x4e, 0x8b));
-        colorNames.put("firebrick", new Color(0xb2, 0x22, 0x22));
-        colorNames.put("firebrick1", new Color(0xff, 0x30, 0x30));
-        colorNames.put("firebrick2", new Color(0xee, 0x2c, 0x2c));
-        colorNames.put("firebrick3", new Color(0xcd, 0x26, 0x26));
-        colorNames.put("firebrick4", new Color(0x8b, 0x1a, 0x1a));
-        colorNames.put("floral white", new Color(0xff, 0xfa, 0xf0));
-        colorNames.put("floralwhite", new Color(0xff, 0xfa, 0xf0));
-        colorNames.put("forestgreen", new Color(0x22, 0x8b, 0x22));
-        colorNames.put("forest green", new Color(0x22, 0x8b, 0x22));
-        colorNames.put("gainsboro", new Color(0xdc, 0xdc, 0xdc));
-        colorNames.put("ghostwhite", new Color(0xf8, 0xf8, 0xff));
-        colorNames.put("ghost white", new Color(0xf8, 0xf8, 0xff));
-        colorNames.put("gold", new Color(0xff, 0xd7, 0x00));
-        colorNames.put("gold1", new Color(0xff, 0xd7, 0x00));
-        colorNames.put("gold2", new Color(0xee, 0xc9, 0x00));
-        colorNames.put("gold3", new Color(0xcd, 0xad, 0x00));
-        colorNames.put("gold4", new Color(0x8b, 0x75, 0x00));
-        colorNames.put("goldenrod", new Color(0xda, 0xa5, 0x20));
-        colorNames.put("goldenrod1", new Color(0xff, 0xc1, 0x25));
-        colorNames.put("goldenrod2", new Color(0xee, 0xb4, 0x22));
-        colorNames.put("goldenrod3", new Color(0xcd, 0x9b, 0x1d));
-        colorNames.put("goldenrod4", new Color(0x8b, 0x69, 0x14));
-        colorNames.put("gray", new Color(0xbe, 0xbe, 0xbe));
-        colorNames.put("gray0", new Color(0x00, 0x00, 0x00));
-        colorNames.put("gray1", new Color(0x03, 0x03, 0x03));
-        colorNames.put("gray10", new Color(0x1a, 0x1a, 0x1a));
-        colorNames.put("gray100", new Color(0xff, 0xff, 0xff));
-        colorNames.put("gray11", new Color(0x1c, 0x1c, 0x1c));
-        colorNames.put("gray12", new Color(0x1f, 0x1f, 0x1f));
-        colorNames.put("gray13", new Color(0x21, 0x21, 0x21));
-        colorNames.put("gray14", new Color(0x24, 0x24, 0x24));
-        colorNames.put("gray15", new Color(0x26, 0x26, 0x26));
-        colorNames.put("gray16", new Color(0x29, 0x29, 0x29));
-        colorNames.put("gray17", new Color(0x2b, 0x2b, 0x2b));
-        colorNames.put("gray18", new Color(0x2e, 0x2e, 0x2e));
-        colorNames.put("gray19", new Color(0x30, 0x30, 0x30));
-        colorNames.put("gray2", new Color(0x05, 0x05, 0x05));
-        colorNames.put("gray20", new Color(0x33, 0x33, 0x33));
-        colorNames.put("gray21", new Color(0x36, 0x36, 0x36));
-        colorNames.put("gray22", new Color(0x38, 0x38, 0x38));
-        colorNames.put("gray23", new Color(0x3b, 0x3b, 0x3b));
-        colorNames.put("gray24", new Color(0x3d, 0x3d, 0x3d));
-        colorNames.put("gray25", new Color(0x40, 0x40, 0x40));
-        colorNames.put("gray26", new Color(0x42, 0x42, 0x42));
-        colorNames.put("gray27", new Color(0x45, 0x45, 0x45));
-        colorNames.put("gray28", new Color(0x47, 0x47, 0x47));
-        colorNames.put("gray29", new Color(0x4a, 0x4a, 0x4a));
-        colorNames.put("gray3", new Color(0x08, 0x08, 0x08));
-        colorNames.put("gray30", new Color(0x4d, 0x4d, 0x4d));
-        colorNames.put("gray31", new Color(0x4f, 0x4f, 0x4f));
-        colorNames.put("gray32", new Color(0x52, 0x52, 0x52));
-        colorNames.put("gray33", new Color(0x54, 0x54, 0x54));
-        colorNames.put("gray34", new Color(0x57, 0x57, 0x57));
-        colorNames.put("gray35", new Color(0x59, 0x59, 0x59));
-        colorNames.put("gray36", new Color(0x5c, 0x5c, 0x5c));
-        colorNames.put("gray37", new Color(0x5e, 0x5e, 0x5e));
-        colorNames.put("gray38", new Color(0x61, 0x61, 0x61));
-        colorNames.put("gray39", new Color(0x63, 0x63, 0x63));
-        colorNames.put("gray4", new Color(0x0a, 0x0a, 0x0a));
-        colorNames.put("gray40", new Color(0x66, 0x66, 0x66));
-        colorNames.put("gray41", new Color(0x69, 0x69, 0x69));
-        colorNames.put("gray42", new Color(0x6b, 0x6b, 0x6b));
-        colorNames.put("gray43", new Color(0x6e, 0x6e, 0x6e));
-        colorNames.put("gray44", new Color(0x70, 0x70, 0x70));
-        colorNames.put("gray45", new Color(0x73, 0x73, 0x73));
-        colorNames.put("gray46", new Color(0x75, 0x75, 0x75));
-        colorNames.put("gray47", new Color(0x78, 0x78, 0x78));
-        colorNames.put("gray48", new Color(0x7a, 0x7a, 0x7a));
-        colorNames.put("gray49", new Color(0x7d, 0x7d, 0x7d));
-        colorNames.put("gray5", new Color(0x0d, 0x0d, 0x0d));
-        colorNames.put("gray50", new Color(0x7f, 0x7f, 0x7f));
-        colorNames.put("gray51", new Color(0x82, 0x82, 0x82));
-        colorNames.put("gray52", new Color(0x85, 0x85, 0x85));
-        colorNames.put("gray53", new Color(0x87, 0x87, 0x87));
-        colorNames.put("gray54", new Color(0x8a, 0x8a, 0x8a));
-        colorNames.put("gray55", new Color(0x8c, 0x8c, 0x8c));
-        colorNames.put("gray56", new Color(0x8f, 0x8f, 0x8f));
-        colorNames.put("gray57", new Color(0x91, 0x91, 0x91));
-        colorNames.put("gray58", new Color(0x94, 0x94, 0x94));
-        colorNames.put("gray59", new Color(0x96, 0x96, 0x96));
-        colorNames.put("gray6", new Color(0x0f, 0x0f, 0x0f));
-        colorNames.put("gray60", new Color(0x99, 0x99, 0x99));
-        colorNames.put("gray61", new Color(0x9c, 0x9c, 0x9c));
-        colorNames.put("gray62", new Color(0x9e, 0x9e, 0x9e));
-        colorNames.put("gray63", new Color(0xa1, 0xa1, 0xa1));
-        colorNames.put("gray64", new Color(0xa3, 0xa3, 0xa3));
-        colorNames.put("gray65", new Color(0xa6, 0xa6, 0xa6));
-        colorNames.put("gray66", new Color(0xa8, 0xa8, 0xa8));
-        colorNames.put("gray67", new Color(0xab, 0xab, 0xab));
-        colorNames.put("gray68", new Color(0xad, 0xad, 0xad));
-        colorNames.put("gray69", new Color(0xb0, 0xb0, 0xb0));
-        colorNames.put("gray7", new Color(0x12, 0x12, 0x12));
-        colorNames.put("gray70", new Color(0xb3, 0xb3, 0xb3));
-        colorNames.put("gray71", new Color(0xb5, 0xb5, 0xb5));
-        colorNames.put("gray72", new Color(0xb8, 0xb8, 0xb8));
-        colorNames.put("gray73", new Color(0xba, 0xba, 0xba));
-        colorNames.put("gray74", new Color(0xbd, 0xbd, 0xbd));
-        colorNames.put("gray75", new Color(0xbf, 0xbf, 0xbf));
-        colorNames.put("gray76", new Color(0xc2, 0xc2, 0xc2));
-        colorNames.put("gray77", new Color(0xc4, 0xc4, 0xc4));
-        colorNames.put("gray78", new Color(0xc7, 0xc7, 0xc7));
-        colorNames.put("gray79", new Color(0xc9, 0xc9, 0xc9));
-        colorNames.put("gray8", new Color(0x14, 0x14, 0x14));
-        colorNames.put("gray80", new Color(0xcc, 0xcc, 0xcc));
-        colorNames.put("gray81", new Color(0xcf, 0xcf, 0xcf));
-        colorNames.put("gray82", new Color(0xd1, 0xd1, 0xd1));
-        colorNames.put("gray83", new Color(0xd4, 0xd4, 0xd4));
-        colorNames.put("gray84", new Color(0xd6, 0xd6, 0xd6));
-        colorNames.put("gray85", new Color(0xd9, 0xd9, 0xd9));
-        colorNames.put("gray86", new Color(0xdb, 0xdb, 0xdb));
-        colorNames.put("gray87", new Color(0xde, 0xde, 0xde));
-        colorNames.put("gray88", new Color(0xe0, 0xe0, 0xe0));
-        colorNames.put("gray89", new Color(0xe3, 0xe3, 0xe3));
-        colorNames.put("gray9", new Color(0x17, 0x17, 0x17));
-        colorNames.put("gray90", new Color(0xe5, 0xe5, 0xe5));
-        colorNames.put("gray91", new Color(0xe8, 0xe8, 0xe8));
-        colorNames.put("gray92", new Color(0xeb, 0xeb, 0xeb));
-        colorNames.put("gray93", new Color(0xed, 0xed, 0xed));
-        colorNames.put("gray94", new Color(0xf0, 0xf0, 0xf0));
-        colorNames.put("gray95", new Color(0xf2, 0xf2, 0xf2));
-        colorNames.put("gray96", new Color(0xf5, 0xf5, 0xf5));
-        colorNames.put("gray97", new Color(0xf7, 0xf7, 0xf7));
-        colorNames.put("gray98", new Color(0xfa, 0xfa, 0xfa));
-        colorNames.put("gray99", new Color(0xfc, 0xfc, 0xfc));
-        colorNames.put("green", new Color(0x00, 0xff, 0x00));
-        colorNames.put("green1", new Color(0x00, 0xff, 0x00));
-        colorNames.put("green2", new Color(0x00, 0xee, 0x00));
-        colorNames.put("green3", new Color(0x00, 0xcd, 0x00));
-        colorNames.put("green4", new Color(0x00, 0x8b, 0x00));
-        colorNames.put("green yellow", new Color(0xad, 0xff, 0x2f));
-        colorNames.put("greenyellow", new Color(0xad, 0xff, 0x2f));
-        colorNames.put("grey", new Color(0xbe, 0xbe, 0xbe));
-        colorNames.put("grey0", new Color(0x00, 0x00, 0x00));
-        colorNames.put("grey1", new Color(0x03, 0x03, 0x03));
-        colorNames.put("grey10", new Color(0x1a, 0x1a, 0x1a));
-        colorNames.put("grey100", new Color(0xff, 0xff, 0xff));
-        colorNames.put("grey11", new Color(0x1c, 0x1c, 0x1c));
-        colorNames.put("grey12", new Color(0x1f, 0x1f, 0x1f));
-        colorNames.put("grey13", new Color(0x21, 0x21, 0x21));
-        colorNames.put("grey14", new Color(0x24, 0x24, 0x24));
-        colorNames.put("grey15", new Color(0x26, 0x26, 0x26));
-        colorNames.put("grey16", new Color(0x29, 0x29, 0x29));
-        colorNames.put("grey17", new Color(0x2b, 0x2b, 0x2b));
-        colorNames.put("grey18", new Color(0x2e, 0x2e, 0x2e));
-        colorNames.put("grey19", new Color(0x30, 0x30, 0x30));
-        colorNames.put("grey2", new Color(0x05, 0x05, 0x05));
-        colorNames.put("grey20", new Color(0x33, 0x33, 0x33));
-        colorNames.put("grey21", new Color(0x36, 0x36, 0x36));
-        colorNames.put("grey22", new Color(0x38, 0x38, 0x38));
-        colorNames.put("grey23", new Color(0x3b, 0x3b, 0x3b));
-        colorNames.put("grey24", new Color(0x3d, 0x3d, 0x3d));
-        colorNames.put("grey25", new Color(0x40, 0x40, 0x40));
-        colorNames.put("grey26", new Color(0x42, 0x42, 0x42));
-        colorNames.put("grey27", new Color(0x45, 0x45, 0x45));
-        colorNames.put("grey28", new Color(0x47, 0x47, 0x47));
-        colorNames.put("grey29", new Color(0x4a, 0x4a, 0x4a));
-        colorNames.put("grey3", new Color(0x08, 0x08, 0x08));
-        colorNames.put("grey30", new Color(0x4d, 0x4d, 0x4d));
-        colorNames.put("grey31", new Color(0x4f, 0x4f, 0x4f));
-        colorNames.put("grey32", new Color(0x52, 0x52, 0x52));
-        colorNames.put("grey33", new Color(0x54, 0x54, 0x54));
-        colorNames.put("grey34", new Color(0x57, 0x57, 0x57));
-        colorNames.put("grey35", new Color(0x59, 0x59, 0x59));
-        colorNames.put("grey36", new Color(0x5c, 0x5c, 0x5c));
-        colorNames.put("grey37", new Color(0x5e, 0x5e, 0x5e));
-        colorNames.put("grey38", new Color(0x61, 0x61, 0x61));
-        colorNames.put("grey39", new Color(0x63, 0x63, 0x63));
-        colorNames.put("grey4", new Color(0x0a, 0x0a, 0x0a));
-        colorNames.put("grey40", new Color(0x66, 0x66, 0x66));
-        colorNames.put("grey41", new Color(0x69, 0x69, 0x69));
-        colorNames.put("grey42", new Color(0x6b, 0x6b, 0x6b));
-        colorNames.put("grey43", new Color(0x6e, 0x6e, 0x6e));
-        colorNames.put("grey44", new Color(0x70, 0x70, 0x70));
-        colorNames.put("grey45", new Color(0x73, 0x73, 0x73));
-        colorNames.put("grey46", new Color(0x75, 0x75, 0x75));
-        colorNames.put("grey47", new Color(0x78, 0x78, 0x78));
-        colorNames.put("grey48", new Color(0x7a, 0x7a, 0x7a));
-        colorNames.put("grey49", new Color(0x7d, 0x7d, 0x7d));
-        colorNames.put("grey5", new Color(0x0d, 0x0d, 0x0d));
-        colorNames.put("grey50", new Color(0x7f, 0x7f, 0x7f));
-        colorNames.put("grey51", new Color(0x82, 0x82, 0x82));
-        colorNames.put("grey52", new Color(0x85, 0x85, 0x85));
-        colorNames.put("grey53", new Color(0x87, 0x87, 0x87));
-        colorNames.put("grey54", new Color(0x8a, 0x8a, 0x8a));
-        colorNames.put("grey55", new Color(0x8c, 0x8c, 0x8c));
-        colorNames.put("grey56", new Color(0x8f, 0x8f, 0x8f));
-        colorNames.put("grey57", new Color(0x91, 0x91, 0x91));
-        colorNames.put("grey58", new Color(0x94, 0x94, 0x94));
-        colorNames.put("grey59", new Color(0x96, 0x96, 0x96));
-        colorNames.put("grey6", new Color(0x0f, 0x0f, 0x0f));
-        colorNames.put("grey60", new Color(0x99, 0x99, 0x99));
-        colorNames.put("grey61", new Color(0x9c, 0x9c, 0x9c));
-        colorNames.put("grey62", new Color(0x9e, 0x9e, 0x9e));
-        colorNames.put("grey63", new Color(0xa1, 0xa1, 0xa1));
-        colorNames.put("grey64", new Color(0xa3, 0xa3, 0xa3));
-        colorNames.put("grey65", new Color(0xa6, 0xa6, 0xa6));
-        colorNames.put("grey66", new Color(0xa8, 0xa8, 0xa8));
-        colorNames.put("grey67", new Color(0xab, 0xab, 0xab));
-        colorNames.put("grey68", new Color(0xad, 0xad, 0xad));
-        colorNames.put("grey69", new Color(0xb0, 0xb0, 0xb0));
-        colorNames.put("grey7", new Color(0x12, 0x12, 0x12));
-        colorNames.put("grey70", new Color(0xb3, 0xb3, 0xb3));
-        colorNames.put("grey71", new Color(0xb5, 0xb5, 0xb5));
-        colorNames.put("grey72", new Color(0xb8, 0xb8, 0xb8));
-        colorNames.put("grey73", new Color(0xba, 0xba, 0xba));
-        colorNames.put("grey74", new Color(0xbd, 0xbd, 0xbd));
-        colorNames.put("grey75", new Color(0xbf, 0xbf, 0xbf));
-        colorNames.put("grey76", new Color(0xc2, 0xc2, 0xc2));
-        colorNames.put("grey77", new Color(0xc4, 0xc4, 0xc4));
-        colorNames.put("grey78", new Color(0xc7, 0xc7, 0xc7));
-        colorNames.put("grey79", new Color(0xc9, 0xc9, 0xc9));
-        colorNames.put("grey8", new Color(0x14, 0x14, 0x14));
-        colorNames.put("grey80", new Color(0xcc, 0xcc, 0xcc));
-        colorNames.put("grey81", new Color(0xcf, 0xcf, 0xcf));
-        colorNames.put("grey82", new Color(0xd1, 0xd1, 0xd1));
-        colorNames.put("grey83", new Color(0xd4, 0xd4, 0xd4));
-        colorNames.put("grey84", new Color(0xd6, 0xd6, 0xd6));
-        colorNames.put("grey85", new Color(0xd9, 0xd9, 0xd9));
-        colorNames.put("grey86", new Color(0xdb, 0xdb, 0xdb));
-        colorNames.put("grey87", new Color(0xde, 0xde, 0xde));
-        colorNames.put("grey88", new Color(0xe0, 0xe0, 0xe0));
-        colorNames.put("grey89", new Color(0xe3, 0xe3, 0xe3));
-        colorNames.put("grey9", new Color(0x17, 0x17, 0x17));
-        colorNames.put("grey90", new Color(0xe5, 0xe5, 0xe5));
-        colorNames.put("grey91", new Color(0xe8, 0xe8, 0xe8));
-        colorNames.put("grey92", new Color(0xeb, 0xeb, 0xeb));
-        colorNames.put("grey93", new Color(0xed, 0xed, 0xed));
-        colorNames.put("grey94", new Color(0xf0, 0xf0, 0xf0));
-        colorNames.put("grey95", new Color(0xf2, 0xf2, 0xf2));
-        colorNames.put("grey96", new Color(0xf5, 0xf5, 0xf5));
-        colorNames.put("grey97", new Color(0xf7, 0xf7, 0xf7));
-        colorNames.put("grey98", new Color(0xfa, 0xfa, 0xfa));
-        colorNames.put("grey99", new Color(0xfc, 0xfc, 0xfc));
-        colorNames.put("honeydew", new Color(0xf0, 0xff, 0xf0));
-        colorNames.put("honeydew1", new Color(0xf0, 0xff, 0xf0));
-        colorNames.put("honeydew2", new Color(0xe0, 0xee, 0xe0));
-        colorNames.put("honeydew3", new Color(0xc1, 0xcd, 0xc1));
-        colorNames.put("honeydew4", new Color(0x83, 0x8b, 0x83));
-        colorNames.put("hot pink", new Color(0xff, 0x69, 0xb4));
-        colorNames.put("hotpink", new Color(0xff, 0x69, 0xb4));
-        colorNames.put("hotpink1", new Color(0xff, 0x6e, 0xb4));
-        colorNames.put("hotpink2", new Color(0xee, 0x6a, 0xa7));
-        colorNames.put("hotpink3", new Color(0xcd, 0x60, 0x90));
-        colorNames.put("hotpink4", new Color(0x8b, 0x3a, 0x62));
-        colorNames.put("indianred", new Color(0xcd, 0x5c, 0x5c));
-        colorNames.put("indian red", new Color(0xcd, 0x5c, 0x5c));
-        colorNames.put("indianred1", new Color(0xff, 0x6a, 0x6a));
-        colorNames.put("indianred2", new Color(0xee, 0x63, 0x63));
-        colorNames.put("indianred3", new Color(0xcd, 0x55, 0x55));
-        colorNames.put("indianred4", new Color(0x8b, 0x3a, 0x3a));
-        colorNames.put("ivory", new Color(0xff, 0xff, 0xf0));
-        colorNames.put("ivory1", new Color(0xff, 0xff, 0xf0));
-        colorNames.put("ivory2", new Color(0xee, 0xee, 0xe0));
-        colorNames.put("ivory3", new Color(0xcd, 0xcd, 0xc1));
-        colorNames.put("ivory4", new Color(0x8b, 0x8b, 0x83));
-        colorNames.put("khaki", new Color(0xf0, 0xe6, 0x8c));
-        colorNames.put("khaki1", new Color(0xff, 0xf6, 0x8f));
-        colorNames.put("khaki2", new Color(0xee, 0xe6, 0x85));
-        colorNames.put("khaki3", new Color(0xcd, 0xc6, 0x73));
-        colorNames.put("khaki4", new Color(0x8b, 0x86, 0x4e));
-        colorNames.put("lavender", new Color(0xe6, 0xe6, 0xfa));
-        colorNames.put("lavenderblush", new Color(0xff, 0xf0, 0xf5));
-        colorNames.put("lavender blush", new Color(0xff, 0xf0, 0xf5));
-        colorNames.put("lavenderblush1", new Color(0xff, 0xf0, 0xf5));
-        colorNames.put("lavenderblush2", new Color(0xee, 0xe0, 0xe5));
-        colorNames.put("lavenderblush3", new Color(0xcd, 0xc1, 0xc5));
-        colorNames.put("lavenderblush4", new Color(0x8b, 0x83, 0x86));
-        colorNames.put("lawn green", new Color(0x7c, 0xfc, 0x00));
-        colorNames.put("lawngreen", new Color(0x7c, 0xfc, 0x00));
-        colorNames.put("lemonchiffon", new Color(0xff, 0xfa, 0xcd));
-        colorNames.put("lemon chiffon", new Color(0xff, 0xfa, 0xcd));
-        colorNames.put("lemonchiffon1", new Color(0xff, 0xfa, 0xcd));
-        colorNames.put("lemonchiffon2", new Color(0xee, 0xe9, 0xbf));
-        colorNames.put("lemonchiffon3", new Color(0xcd, 0xc9, 0xa5));
-        colorNames.put("lemonchiffon4", new Color(0x8b, 0x89, 0x70));
-        colorNames.put("lightblue", new Color(0xad, 0xd8, 0xe6));
-        colorNames.put("light blue", new Color(0xad, 0xd8, 0xe6));
-        colorNames.put("lightblue1", new Color(0xbf, 0xef, 0xff));
-        colorNames.put("lightblue2", new Color(0xb2, 0xdf, 0xee));
-        colorNames.put("lightblue3", new Color(0x9a, 0xc0, 0xcd));
-        colorNames.put("lightblue4", new Color(0x68, 0x83, 0x8b));
-        colorNames.put("lightcoral", new Color(0xf0, 0x80, 0x80));
-        colorNames.put("light coral", new Color(0xf0, 0x80, 0x80));
-        colorNames.put("lightcyan", new Color(0xe0, 0xff, 0xff));
-        colorNames.put("light cyan", new Color(0xe0, 0xff, 0xff));
-        colorNames.put("lightcyan1", new Color(0xe0, 0xff, 0xff));
-        colorNames.put("lightcyan2", new Color(0xd1, 0xee, 0xee));
-        colorNames.put("lightcyan3", new Color(0xb4, 0xcd, 0xcd));
-        colorNames.put("lightcyan4", new Color(0x7a, 0x8b, 0x8b));
-        colorNames.put("lightgoldenrod", new Color(0xee, 0xdd, 0x82));
-        colorNames.put("light goldenrod", new Color(0xee, 0xdd, 0x82));
-        colorNames.put("lightgoldenrod1", new Color(0xff, 0xec, 0x8b));
-        colorNames.put("lightgoldenrod2", new Color(0xee, 0xdc, 0x82));
-        colorNames.put("lightgoldenrod3", new Color(0xcd, 0xbe, 0x70));
-        colorNames.put("lightgoldenrod4", new Color(0x8b, 0x81, 0x4c));
-        colorNames.put("lightgoldenrodyellow", new Color(0xfa, 0xfa, 0xd2));
-        colorNames.put("light goldenrod yellow", new Color(0xfa, 0xfa, 0xd2));
-        colorNames.put("lightgray", new Color(0xd3, 0xd3, 0xd3));
-        colorNames.put("light gray", new Color(0xd3, 0xd3, 0xd3));
-        colorNames.put("light green", new Color(0x90, 0xee, 0x90));
-        colorNames.put("lightgreen", new Color(0x90, 0xee, 0x90));
-        colorNames.put("lightgrey", new Color(0xd3, 0xd3, 0xd3));
-        colorNames.put("light grey", new Color(0xd3, 0xd3, 0xd3));
-        colorNames.put("lightpink", new Color(0xff, 0xb6, 0xc1));
-        colorNames.put("light pink", new Color(0xff, 0xb6, 0xc1));
-        colorNames.put("lightpink1", new Color(0xff, 0xae, 0xb9));
-        colorNames.put("lightpink2", new Color(0xee, 0xa2, 0xad));
-        colorNames.put("lightpink3", new Color(0xcd, 0x8c, 0x95));
-        colorNames.put("lightpink4", new Color(0x8b, 0x5f, 0x65));
-        colorNames.put("light salmon", new Color(0xff, 0xa0, 0x7a));
-        colorNames.put("lightsalmon", new Color(0xff, 0xa0, 0x7a));
-        colorNames.put("lightsalmon1", new Color(0xff, 0xa0, 0x7a));
-        colorNames.put("lightsalmon2", new Color(0xee, 0x95, 0x72));
-        colorNames.put("lightsalmon3", new Color(0xcd, 0x81, 0x62));
-        colorNames.put("lightsalmon4", new Color(0x8b, 0x57, 0x42));
-        colorNames.put("light sea green", new Color(0x20, 0xb2, 0xaa));
-        colorNames.put("lightseagreen", new Color(0x20, 0xb2, 0xaa));
-        colorNames.put("light sky blue", new Color(0x87, 0xce, 0xfa));
-        colorNames.put("lightskyblue", new Color(0x87, 0xce, 0xfa));
-        colorNames.put("lightskyblue1", new Color(0xb0, 0xe2, 0xff));
-        colorNames.put("lightskyblue2", new Color(0xa4, 0xd3, 0xee));
-        colorNames.put("lightskyblue3", new Color(0x8d, 0xb6, 0xcd));
-        colorNames.put("lightskyblue4", new Color(0x60, 0x7b, 0x8b));
-        colorNames.put("light slate blue", new Color(0x84, 0x70, 0xff));
-        colorNames.put("lightslateblue", new Color(0x84, 0x70, 0xff));
-        colorNames.put("light slate gray", new Color(0x77, 0x88, 0x99));
-        colorNames.put("lightslategray", new Color(0x77, 0x88, 0x99));
-        colorNames.put("light slate grey", new Color(0x77, 0x88, 0x99));
-        colorNames.put("lightslategrey", new Color(0x77, 0x88, 0x99));
-        colorNames.put("lightsteelblue", new Color(0xb0, 0xc4, 0xde));
-        colorNames.put("light steel blue", new Color(0xb0, 0xc4, 0xde));
-        colorNames.put("lightsteelblue1", new Color(0xca, 0xe1, 0xff));
-        colorNames.put("lightsteelblue2", new Color(0xbc, 0xd2, 0xee));
-        colorNames.put("lightsteelblue3", new Color(0xa2, 0xb5, 0xcd));
-        colorNames.put("lightsteelblue4", new Color(0x6e, 0x7b, 0x8b));
-        colorNames.put("lightyellow", new Color(0xff, 0xff, 0xe0));
-        colorNames.put("light yellow", new Color(0xff, 0xff, 0xe0));
-        colorNames.put("lightyellow1", new Color(0xff, 0xff, 0xe0));
-        colorNames.put("lightyellow2", new Color(0xee, 0xee, 0xd1));
-        colorNames.put("lightyellow3", new Color(0xcd, 0xcd, 0xb4));
-        colorNames.put("lightyellow4", new Color(0x8b, 0x8b, 0x7a));
-        colorNames.put("lime green", new Color(0x32, 0xcd, 0x32));
-        colorNames.put("limegreen", new Color(0x32, 0xcd, 0x32));
-        colorNames.put("linen", new Color(0xfa, 0xf0, 0xe6));
-        colorNames.put("magenta", new Color(0xff, 0x00, 0xff));
-        colorNames.put("magenta1", new Color(0xff, 0x00, 0xff));
-        colorNames.put("magenta2", new Color(0xee, 0x00, 0xee));
-        colorNames.put("magenta3", new Color(0xcd, 0x00, 0xcd));
-        colorNames.put("magenta4", new Color(0x8b, 0x00, 0x8b));
-        colorNames.put("maroon", new Color(0xb0, 0x30, 0x60));
-        colorNames.put("maroon1", new Color(0xff, 0x34, 0xb3));
-        colorNames.put("maroon2", new Color(0xee, 0x30, 0xa7));
-        colorNames.put("maroon3", new Color(0xcd, 0x29, 0x90));
-        colorNames.put("maroon4", new Color(0x8b, 0x1c, 0x62));
-        colorNames.put("mediumaquamarine", new Color(0x66, 0xcd, 0xaa));
-        colorNames.put("medium aquamarine", new Color(0x66, 0xcd, 0xaa));
-        colorNames.put("mediumblue", new Color(0x00, 0x00, 0xcd));
-        colorNames.put("medium blue", new Color(0x00, 0x00, 0xcd));
-        colorNames.put("medium orchid", new Color(0xba, 0x55, 0xd3));
-        colorNames.put("mediumorchid", new Color(0xba, 0x55, 0xd3));
-        colorNames.put("mediumorchid1", new Color(0xe0, 0x66, 0xff));
-        colorNames.put("mediumorchid2", new Color(0xd1, 0x5f, 0xee));
-        colorNames.put("mediumorchid3", new Color(0xb4, 0x52, 0xcd));
-        colorNames.put("mediumorchid4", new Color(0x7a, 0x37, 0x8b));
-        colorNames.put("medium purple", new Color(0x93, 0x70, 0xdb));
-        colorNames.put("mediumpurple", new Color(0x93, 0x70, 0xdb));
-        colorNames.put("mediumpurple1", new Color(0xab, 0x82, 0xff));
-        colorNames.put("mediumpurple2", new Color(0x9f, 0x79, 0xee));
-        colorNames.put("mediumpurple3", new Color(0x89, 0x68, 0xcd));
-        colorNames.put("mediumpurple4", new Color(0x5d, 0x47, 0x8b));
-        colorNames.put("medium sea green", new Color(0x3c, 0xb3, 0x71));
-        colorNames.put("mediumseagreen", new Color(0x3c, 0xb3, 0x71));
-        colorNames.put("mediumslateblue", new Color(0x7b, 0x68, 0xee));
-        colorNames.put("medium slate blue", new Color(0x7b, 0x68, 0xee));
-        colorNames.put("mediumspringgreen", new Color(0x00, 0xfa, 0x9a));
-        colorNames.put("medium spring green", new Color(0x00, 0xfa, 0x9a));
-        colorNames.put("medium turquoise", new Color(0x48, 0xd1, 0xcc));
-        colorNames.put("mediumturquoise", new Color(0x48, 0xd1, 0xcc));
-        colorNames.put("mediumvioletred", new Color(0xc7, 0x15, 0x85));
-        colorNames.put("medium violet red", new Color(0xc7, 0x15, 0x85));
-        colorNames.put("midnight blue", new Color(0x19, 0x19, 0x70));
-        colorNames.put("midnightblue", new Color(0x19, 0x19, 0x70));
-        colorNames.put("mint cream", new Color(0xf5, 0xff, 0xfa));
-        colorNames.put("mintcream", new Color(0xf5, 0xff, 0xfa));
-        colorNames.put("misty rose", new Color(0xff, 0xe4, 0xe1));
-        colorNames.put("mistyrose", new Color(0xff, 0xe4, 0xe1));
-        colorNames.put("mistyrose1", new Color(0xff, 0xe4, 0xe1));
-        colorNames.put("mistyrose2", new Color(0xee, 0xd5, 0xd2));
-        colorNames.put("mistyrose3", new Color(0xcd, 0xb7, 0xb5));
-        colorNames.put("mistyrose4", new Color(0x8b, 0x7d, 0x7b));
-        colorNames.put("moccasin", new Color(0xff, 0xe4, 0xb5));
-        colorNames.put("navajowhite", new Color(0xff, 0xde, 0xad));
-        colorNames.put("navajo white", new Color(0xff, 0xde, 0xad));
-        colorNames.put("navajowhite1", new Color(0xff, 0xde, 0xad));
-        colorNames.put("navajowhite2", new Color(0xee, 0xcf, 0xa1));
-        colorNames.put("navajowhite3", new Color(0xcd, 0xb3, 0x8b));
-        colorNames.put("navajowhite4", new Color(0x8b, 0x79, 0x5e));
-        colorNames.put("navy", new Color(0x00, 0x00, 0x80));
-        colorNames.put("navyblue", new Color(0x00, 0x00, 0x80));
-        colorNames.put("navy blue", new Color(0x00, 0x00, 0x80));
-        colorNames.put("oldlace", new Color(0xfd, 0xf5, 0xe6));
-        colorNames.put("old lace", new Color(0xfd, 0xf5, 0xe6));
-        colorNames.put("olivedrab", new Color(0x6b, 0x8e, 0x23));
-        colorNames.put("olive drab", new Color(0x6b, 0x8e, 0x23));
-        colorNames.put("olivedrab1", new Color(0xc0, 0xff, 0x3e));
-        colorNames.put("olivedrab2", new Color(0xb3, 0xee, 0x3a));
-        colorNames.put("olivedrab3", new Color(0x9a, 0xcd, 0x32));
-        colorNames.put("olivedrab4", new Color(0x69, 0x8b, 0x22));
-        colorNames.put("orange", new Color(0xff, 0xa5, 0x00));
-        colorNames.put("orange1", new Color(0xff, 0xa5, 0x00));
-        colorNames.put("orange2", new Color(0xee, 0x9a, 0x00));
-        colorNames.put("orange3", new Color(0xcd, 0x85, 0x00));
-        colorNames.put("orange4", new Color(0x8b, 0x5a, 0x00));
-        colorNames.put("orange red", new Color(0xff, 0x45, 0x00));
-        colorNames.put("orangered", new Color(0xff, 0x45, 0x00));
-        colorNames.put("orangered1", new Color(0xff, 0x45, 0x00));
-        colorNames.put("orangered2", new Color(0xee, 0x40, 0x00));
-        colorNames.put("orangered3", new Color(0xcd, 0x37, 0x00));
-        colorNames.put("orangered4", new Color(0x8b, 0x25, 0x00));
-        colorNames.put("orchid", new Color(0xda, 0x70, 0xd6));
-        colorNames.put("orchid1", new Color(0xff, 0x83, 0xfa));
-        colorNames.put("orchid2", new Color(0xee, 0x7a, 0xe9));
-        colorNames.put("orchid3", new Color(0xcd, 0x69, 0xc9));
-        colorNames.put("orchid4", new Color(0x8b, 0x47, 0x89));
-        colorNames.put("palegoldenrod", new Color(0xee, 0xe8, 0xaa));
-        colorNames.put("pale goldenrod", new Color(0xee, 0xe8, 0xaa));
-        colorNames.put("palegreen", new Color(0x98, 0xfb, 0x98));
-        colorNames.put("pale green", new Color(0x98, 0xfb, 0x98));
-        colorNames.put("palegreen1", new Color(0x9a, 0xff, 0x9a));
-        colorNames.put("palegreen2", new Color(0x90, 0xee, 0x90));
-        colorNames.put("palegreen3", new Color(0x7c, 0xcd, 0x7c));
-        colorNames.put("palegreen4", new Color(0x54, 0x8b, 0x54));
-        colorNames.put("pale turquoise", new Color(0xaf, 0xee, 0xee));
-        colorNames.put("paleturquoise", new Color(0xaf, 0xee, 0xee));
-        colorNames.put("paleturquoise1", new Color(0xbb, 0xff, 0xff));
-        colorNames.put("paleturquoise2", new Color(0xae, 0xee, 0xee));
-        colorNames.put("paleturquoise3", new Color(0x96, 0xcd, 0xcd));
-        colorNames.put("paleturquoise4", new Color(0x66, 0x8b, 0x8b));
-        colorNames.put("pale violet red", new Color(0xdb, 0x70, 0x93));
-        colorNames.put("palevioletred", new Color(0xdb, 0x70, 0x93));
-        colorNames.put("palevioletred1", new Color(0xff, 0x82, 0xab));
-        colorNames.put("palevioletred2", new Color(0xee, 0x79, 0x9f));
-        colorNames.put("palevioletred3", new Color(0xcd, 0x68, 0x89));
-        colorNames.put("palevioletred4", new Color(0x8b, 0x47, 0x5d));
-        colorNames.put("papayawhip", new Color(0xff, 0xef, 0xd5));
-        colorNames.put("papaya whip", new Color(0xff, 0xef, 0xd5));
-        colorNames.put("peachpuff", new Color(0xff, 0xda, 0xb9));
-        colorNames.put("peach puff", new Color(0xff, 0xda, 0xb9));
-        colorNames.put("peachpuff1", new Color(0xff, 0xda, 0xb9));
-        colorNames.put("peachpuff2", new Color(0xee, 0xcb, 0xad));
-        colorNames.put("peachpuff3", new Color(0xcd, 0xaf, 0x95));
-        colorNames.put("peachpuff4", new Color(0x8b, 0x77, 0x65));
-        colorNames.put("peru", new Color(0xcd, 0x85, 0x3f));
-        colorNames.put("pink", new Color(0xff, 0xc0, 0xcb));
-        colorNames.put("pink1", new Color(0xff, 0xb5, 0xc5));
-        colorNames.put("pink2", new Color(0xee, 0xa9, 0xb8));
-        colorNames.put("pink3", new Color(0xcd, 0x91, 0x9e));
-        colorNames.put("pink4", new Color(0x8b, 0x63, 0x6c));
-        colorNames.put("plum", new Color(0xdd, 0xa0, 0xdd));
-        colorNames.put("plum1", new Color(0xff, 0xbb, 0xff));
-        colorNames.put("plum2", new Color(0xee, 0xae, 0xee));
-        colorNames.put("plum3", new Color(0xcd, 0x96, 0xcd));
-        colorNames.put("plum4", new Color(0x8b, 0x66, 0x8b));
-        colorNames.put("powder blue", new Color(0xb0, 0xe0, 0xe6));
-        colorNames.put("powderblue", new Color(0xb0, 0xe0, 0xe6));
-        colorNames.put("purple", new Color(0xa0, 0x20, 0xf0));
-        colorNames.put("purple1", new Color(0x9b, 0x30, 0xff));
-        colorNames.put("purple2", new Color(0x91, 0x2c, 0xee));
-        colorNames.put("purple3", new Color(0x7d, 0x26, 0xcd));
-        colorNames.put("purple4", new Color(0x55, 0x1a, 0x8b));
-        colorNames.put("red", new Color(0xff, 0x00, 0x00));
-        colorNames.put("red1", new Color(0xff, 0x00, 0x00));
-        colorNames.put("red2", new Color(0xee, 0x00, 0x00));
-        colorNames.put("red3", new Color(0xcd, 0x00, 0x00));
-        colorNames.put("red4", new Color(0x8b, 0x00, 0x00));
-        colorNames.put("rosybrown", new Color(0xbc, 0x8f, 0x8f));
-        colorNames.put("rosy brown", new Color(0xbc, 0x8f, 0x8f));
-        colorNames.put("rosybrown1", new Color(0xff, 0xc1, 0xc1));
-        colorNames.put("rosybrown2", new Color(0xee, 0xb4, 0xb4));
-        colorNames.put("rosybrown3", new Color(0xcd, 0x9b, 0x9b));
-        colorNames.put("rosybrown4", new Color(0x8b, 0x69, 0x69));
-        colorNames.put("royalblue", new Color(0x41, 0x69, 0xe1));
-        colorNames.put("royal blue", new Color(0x41, 0x69, 0xe1));
-        colorNames.put("royalblue1", new Color(0x48, 0x76, 0xff));
-        colorNames.put("royalblue2", new Color(0x43, 0x6e, 0xee));
-        colorNames.put("royalblue3", new Color(0x3a, 0x5f, 0xcd));
-        colorNames.put("royalblue4", new Color(0x27, 0x40, 0x8b));
-        colorNames.put("saddlebrown", new Color(0x8b, 0x45, 0x13));
-        colorNames.put("saddle brown", new Color(0x8b, 0x45, 0x13));
-        colorNames.put("salmon", new Color(0xfa, 0x80, 0x72));
-        colorNames.put("salmon1", new Color(0xff, 0x8c, 0x69));
-        colorNames.put("salmon2", new Color(0xee, 0x82, 0x62));
-        colorNames.put("salmon3", new Color(0xcd, 0x70, 0x54));
-        colorNames.put("salmon4", new Color(0x8b, 0x4c, 0x39));
-        colorNames.put("sandybrown", new Color(0xf4, 0xa4, 0x60));
-        colorNames.put("sandy brown", new Color(0xf4, 0xa4, 0x60));
-        colorNames.put("sea green", new Color(0x2e, 0x8b, 0x57));
-        colorNames.put("seagreen", new Color(0x2e, 0x8b, 0x57));
-        colorNames.put("seagreen1", new Color(0x54, 0xff, 0x9f));
-        colorNames.put("seagreen2", new Color(0x4e, 0xee, 0x94));
-        colorNames.put("seagreen3", new Color(0x43, 0xcd, 0x80));
-        colorNames.put("seagreen4", new Color(0x2e, 0x8b, 0x57));
-        colorNames.put("seashell", new Color(0xff, 0xf5, 0xee));
-        colorNames.put("seashell1", new Color(0xff, 0xf5, 0xee));
-        colorNames.put("seashell2", new Color(0xee, 0xe5, 0xde));
-        colorNames.put("seashell3", new Color(0xcd, 0xc5, 0xbf));
-        colorNames.put("seashell4", new Color(0x8b, 0x86, 0x82));
-        colorNames.put("sienna", new Color(0xa0, 0x52, 0x2d));
-        colorNames.put("sienna1", new Color(0xff, 0x82, 0x47));
-        colorNames.put("sienna2", new Color(0xee, 0x79, 0x42));
-        colorNames.put("sienna3", new Color(0xcd, 0x68, 0x39));
-        colorNames.put("sienna4", new Color(0x8b, 0x47, 0x26));
-        colorNames.put("sky blue", new Color(0x87, 0xce, 0xeb));
-        colorNames.put("skyblue", new Color(0x87, 0xce, 0xeb));
-        colorNames.put("skyblue1", new Color(0x87, 0xce, 0xff));
-        colorNames.put("skyblue2", new Color(0x7e, 0xc0, 0xee));
-        colorNames.put("skyblue3", new Color(0x6c, 0xa6, 0xcd));
-        colorNames.put("skyblue4", new Color(0x4a, 0x70, 0x8b));
-        colorNames.put("slateblue", new Color(0x6a, 0x5a, 0xcd));
-        colorNames.put("slate blue", new Color(0x6a, 0x5a, 0xcd));
-        colorNames.put("slateblue1", new Color(0x83, 0x6f, 0xff));
-        colorNames.put("slateblue2", new Color(0x7a, 0x67, 0xee));
-        colorNames.put("slateblue3", new Color(0x69, 0x59, 0xcd));
-        colorNames.put("slateblue4", new Color(0x47, 0x3c, 0x8b));
-        colorNames.put("slategray", new Color(0x70, 0x80, 0x90));
-        colorNames.put("slate gray", new Color(0x70, 0x80, 0x90));
-        colorNames.put("slategray1", new Color(0xc6, 0xe2, 0xff));
-        colorNames.put("slategray2", new Color(0xb9, 0xd3, 0xee));
-        colorNames.put("slategray3", new Color(0x9f, 0xb6, 0xcd));
-        colorNames.put("slategray4", new Color(0x6c, 0x7b, 0x8b));
-        colorNames.put("slategrey", new Color(0x70, 0x80, 0x90));
-        colorNames.put("slate grey", new Color(0x70, 0x80, 0x90));
-        colorNames.put("slategrey1", new Color(0xc6, 0xe2, 0xff));
-        colorNames.put("slategrey2", new Color(0xb9, 0xd3, 0xee));
-        colorNames.put("slategrey3", new Color(0x9f, 0xb6, 0xcd));
-        colorNames.put("slategrey4", new Color(0x6c, 0x7b, 0x8b));
-        colorNames.put("snow", new Color(0xff, 0xfa, 0xfa));
-        colorNames.put("snow1", new Color(0xff, 0xfa, 0xfa));
-        colorNames.put("snow2", new Color(0xee, 0xe9, 0xe9));
-        colorNames.put("snow3", new Color(0xcd, 0xc9, 0xc9));
-        colorNames.put("snow4", new Color(0x8b, 0x89, 0x89));
-        colorNames.put("springgreen", new Color(0x00, 0xff, 0x7f));
-        colorNames.put("spring green", new Color(0x00, 0xff, 0x7f));
-        colorNames.put("springgreen1", new Color(0x00, 0xff, 0x7f));
-        colorNames.put("springgreen2", new Color(0x00, 0xee, 0x76));
-        colorNames.put("springgreen3", new Color(0x00, 0xcd, 0x66));
-        colorNames.put("springgreen4", new Color(0x00, 0x8b, 0x45));
-        colorNames.put("steel blue", new Color(0x46, 0x82, 0xb4));
-        colorNames.put("steelblue", new Color(0x46, 0x82, 0xb4));
-        colorNames.put("steelblue1", new Color(0x63, 0xb8, 0xff));
-        colorNames.put("steelblue2", new Color(0x5c, 0xac, 0xee));
-        colorNames.put("steelblue3", new Color(0x4f, 0x94, 0xcd));
-        colorNames.put("steelblue4", new Color(0x36, 0x64, 0x8b));
-        colorNames.put("tan", new Color(0xd2, 0xb4, 0x8c));
-        colorNames.put("tan1", new Color(0xff, 0xa5, 0x4f));
-        colorNames.put("tan2", new Color(0xee, 0x9a, 0x49));
-        colorNames.put("tan3", new Color(0xcd, 0x85, 0x3f));
-        colorNames.put("tan4", new Color(0x8b, 0x5a, 0x2b));
-        colorNames.put("thistle", new Color(0xd8, 0xbf, 0xd8));
-        colorNames.put("thistle1", new Color(0xff, 0xe1, 0xff));
-        colorNames.put("thistle2", new Color(0xee, 0xd2, 0xee));
-        colorNames.put("thistle3", new Color(0xcd, 0xb5, 0xcd));
-        colorNames.put("thistle4", new Color(0x8b, 0x7b, 0x8b));
-        colorNames.put("tomato", new Color(0xff, 0x63, 0x47));
-        colorNames.put("tomato1", new Color(0xff, 0x63, 0x47));
-        colorNames.put("tomato2", new Color(0xee, 0x5c, 0x42));
-        colorNames.put("tomato3", new Color(0xcd, 0x4f, 0x39));
-        colorNames.put("tomato4", new Color(0x8b, 0x36, 0x26));
-        colorNames.put("turquoise", new Color(0x40, 0xe0, 0xd0));
-        colorNames.put("turquoise1", new Color(0x00, 0xf5, 0xff));
-        colorNames.put("turquoise2", new Color(0x00, 0xe5, 0xee));
-        colorNames.put("turquoise3", new Color(0x00, 0xc5, 0xcd));
-        colorNames.put("turquoise4", new Color(0x00, 0x86, 0x8b));
-        colorNames.put("violet", new Color(0xee, 0x82, 0xee));
-        colorNames.put("violet red", new Color(0xd0, 0x20, 0x90));
-        colorNames.put("violetred", new Color(0xd0, 0x20, 0x90));
-        colorNames.put("violetred1", new Color(0xff, 0x3e, 0x96));
-        colorNames.put("violetred2", new Color(0xee, 0x3a, 0x8c));
-        colorNames.put("violetred3", new Color(0xcd, 0x32, 0x78));
-        colorNames.put("violetred4", new Color(0x8b, 0x22, 0x52));
-        colorNames.put("wheat", new Color(0xf5, 0xde, 0xb3));
-        colorNames.put("wheat1", new Color(0xff, 0xe7, 0xba));
-        colorNames.put("wheat2", new Color(0xee, 0xd8, 0xae));
-        colorNames.put("wheat3", new Color(0xcd, 0xba, 0x96));
-        colorNames.put("wheat4", new Color(0x8b, 0x7e, 0x66));
-        colorNames.put("white", new Color(0xff, 0xff, 0xff));
-        colorNames.put("white smoke", new Color(0xf5, 0xf5, 0xf5));
-        colorNames.put("whitesmoke", new Color(0xf5, 0xf5, 0xf5));
-        colorNames.put("yellow", new Color(0xff, 0xff, 0x00));
-        colorNames.put("yellow1", new Color(0xff, 0xff, 0x00));
-        colorNames.put("yellow2", new Color(0xee, 0xee, 0x00));
-        colorNames.put("yellow3", new Color(0xcd, 0xcd, 0x00));
-        colorNames.put("yellow4", new Color(0x8b, 0x8b, 0x00));
-        colorNames.put("yellow green", new Color(0x9a, 0xcd, 0x32));
-        colorNames.put("yellowgreen", new Color(0x9a, 0xcd, 0x32));
-    }
+    private final Color color;
 
     /**
      * Create a ColorRGB from explicit RGB values.
+     * <p>
+     * <code>ColorRGB.of()</code> should be used instead; it avoids
+     * creating a new object.
      * 
      * @param r     The red value [0..255]
      * @param g     The green value [0..255]
      * @param b     The blue value [0..255]
      */
     public ColorRGB(int r, int g, int b) {
-        color = new Color(r, g, b);
+        color = of(r, g, b).color;
     }
 
     /**
      * Create a ColorRGB from an X11 color name.
+     * <p>
+     * <code>ColorRGB.named()</code> should be used instead; it avoids
+     * creating a new object.
      * 
      * @param colorName     The X11 name of the color
      */
     public ColorRGB(String colorName) {
-        colorName = colorName.toLowerCase();
-        if (colorNames.containsKey(colorName))
-            color = colorNames.get(colorName);
-        else
-            color = new Color(0, 0, 0);
+        color = named(colorName).color;
+    }
+
+    // Used only by of() to create the shared instance for a color.
+    private ColorRGB(Color color) {
+        this.color = color;
+    }
+
+    /**
+     * Returns the ColorRGB for the given RGB values.
+     * <p>
+     * The same object is returned every time this is called with the
+     * same values, so colors returned by <code>of()</code> and
+     * <code>named()</code> may be compared with <code>==</code>.
+     * 
+     * @param r     The red value [0..255]
+     * @param g     The green value [0..255]
+     * @param b     The blue value [0..255]
+     * @return      The ColorRGB for the given color.
+     */
+    public static ColorRGB of(int r, int g, int b) {
+        if (((r | g | b) & ~0xff) != 0)
+            throw new IllegalArgumentException(
+                String.format("Color values out of range: %d %d %d", r, g, b));
+        return of(0xff000000 | (r << 16) | (g << 8) | b);
+    }
+
+    /**
+     * Returns the ColorRGB for an X11 color name.
+     * <p>
+     * Color names are not case-sensitive.  Unknown names give black.
+     * The same object is returned every time this is called with the
+     * same color.  The <code>java.awt.Color</code> for a name isn't
+     * created until the first time the name is used.
+     * 
+     * @param colorName     The X11 name of the color
+     * @return              The ColorRGB for the given color.
+     */
+    public static ColorRGB named(String colorName) {
+        int rgb = ColorNames.lookup(colorName);
+        return of(0xff000000 | (rgb < 0 ? 0 : rgb));
+    }
+
+    // Returns the shared ColorRGB for an opaque packed RGB value.
+    private static ColorRGB of(int rgb) {
+        int slot = (rgb ^ (rgb >>> 10) ^ (rgb >>> 20)) & (RECENT_SIZE - 1);
+        ColorRGB result = recent[slot];
+        if (result != null && result.color.getRGB() == rgb) return result;
+
+        result = interned.computeIfAbsent(rgb, key -> new ColorRGB(new Color(key)));
+        recent[slot] = result;
+        return result;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) return true;
+        if (!(other instanceof ColorRGB)) return false;
+        return color.getRGB() == ((ColorRGB)other).color.getRGB();
+    }
+
+    @Override
+    public int hashCode() {
+        return color.getRGB();
     }
 
     /**
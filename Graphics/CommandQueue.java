@@ -0,0 +1,108 @@
+package Graphics;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * A queue of changes to graphics objects, which any number of threads
+ * may add to, but only one thread takes from.
+ * <p>
+ * When a window is using queued updates, calling <code>move()</code>,
+ * <code>setFill()</code>, <code>setLayer()</code>, and so on for an
+ * object drawn in that window doesn't change the object; instead, a
+ * <code>Command</code> describing the change is added to the window's
+ * queue.  The commands are carried out, in order, the next time the
+ * window is updated.
+ * <p>
+ * This is the linked queue described by Dmitry Vyukov.  Adding a command
+ * takes a single atomic exchange, so threads adding commands never wait
+ * for each other or for the thread taking them.  The queue always holds
+ * at least one node (initially a dummy); the node at the head is one
+ * whose command has already been taken.
+ * <p>
+ * This class intentionally has package visibility.
+ */
+class CommandQueue {
+
+    /**
+     * A single change to a graphics object, and the link to the next
+     * one in the queue.
+     */
+    static final class Command {
+        static final int DRAW = 1;
+        static final int UNDRAW = 2;
+        static final int MOVE = 3;
+        static final int SET_FILL = 4;
+        static final int SET_OUTLINE = 5;
+        static final int SET_WIDTH = 6;
+        static final int SET_LAYER = 7;
+        static final int SET_SPRITE = 8;
+
+        final int op;
+        final GraphicsObject obj;
+        final GraphWin win;
+        final double dx;
+        final double dy;
+        final ColorRGB color;
+        final int width;
+        final int layer;
+        final boolean sprite;
+
+        volatile Command next;
+
+        Command(int op, GraphicsObject obj, GraphWin win, double dx, double dy,
+                ColorRGB color, int width, int layer, boolean sprite) {
+            this.op = op;
+            this.obj = obj;
+            this.win = win;
+            this.dx = dx;
+            this.dy = dy;
+            this.color = color;
+            this.width = width;
+            this.layer = layer;
+            this.sprite = sprite;
+        }
+    }
+
+    // Threads adding commands swap themselves in at tail.  Only the
+    // thread taking commands touches head.
+    private final AtomicReference<Command> tail;
+    private Command head;
+
+    /**
+     * Creates an empty queue.
+     */
+    CommandQueue() {
+        Command stub = new Command(0, null, null, 0, 0, null, 0, 0, false);
+        head = stub;
+        tail = new AtomicReference<>(stub);
+    }
+
+    /**
+     * Adds a command to the end of the queue.  This may be called from
+     * any thread.
+     *
+     * @param cmd       The command to add.
+     */
+    void add(Command cmd) {
+        Command prev = tail.getAndSet(cmd);
+        // Between the exchange and this store, the command is in the
+        // queue but can't be reached from head yet; poll() just sees
+        // the queue as ending at prev until the link is written.
+        prev.next = cmd;
+    }
+
+    /**
+     * Removes and returns the command at the front of the queue.  This
+     * may only be called by one thread at a time.
+     *
+     * @return          The command, or <code>null</code> if the queue
+     *                  is empty.
+     */
+    Command poll() {
+        Command next = head.next;
+        if (next == null)
+            return null;
+        head = next;
+        return next;
+    }
+}
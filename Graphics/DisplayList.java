@@ -0,0 +1,182 @@
+package Graphics;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * The list of objects drawn in a window, in the order in which they
+ * are drawn.
+ * <p>
+ * Objects in lower layers come before objects in higher layers; within
+ * a layer, objects are in the order in which they were added.
+ * <p>
+ * This is a doubly-linked list, but the links are kept in the
+ * <code>GraphicsObject</code>s themselves rather than in separate nodes.
+ * That means an object can be removed without searching for it, and
+ * without shifting everything after it the way
+ * <code>ArrayList.remove()</code> does.  Since an object can only be
+ * drawn in one window at a time, it can only be in one list at a time.
+ * <p>
+ * The list is changed by the program's thread, but painted by Swing's
+ * event thread, so the painter never walks the links.  Instead, it asks
+ * for a <code>snapshot()</code>, an array of the objects in the list
+ * at that moment, which nothing else ever changes.  A snapshot is only
+ * made when it's asked for and the list has changed since the last one,
+ * so adding or removing an object never copies the list, and never waits
+ * for a paint to finish.  The only lock is held while changing the links
+ * or making a snapshot.
+ * <p>
+ * This class intentionally has package visibility.
+ */
+class DisplayList implements Iterable<GraphicsObject> {
+
+    private GraphicsObject head = null;
+    private GraphicsObject tail = null;
+    private int size = 0;
+
+    // The most recent snapshot, or null if the list has changed
+    // since it was made.
+    private static final GraphicsObject[] EMPTY = new GraphicsObject[0];
+    private volatile GraphicsObject[] snapshot = EMPTY;
+
+    /**
+     * Adds an object to the end of its layer, which is usually the end
+     * of the list.
+     * 
+     * @param obj       The object to add.  It must not already be in
+     *                  any list.
+     */
+    synchronized void add(GraphicsObject obj) {
+        // Find the last object that belongs under this one.  Objects
+        // are nearly always added to the top layer, so this rarely
+        // goes back more than a step or two.
+        GraphicsObject after = tail;
+        while (after != null && after.layer > obj.layer)
+            after = after.prev;
+
+        obj.prev = after;
+        obj.next = (after == null) ? head : after.next;
+        if (obj.prev == null)
+            head = obj;
+        else
+            obj.prev.next = obj;
+        if (obj.next == null)
+            tail = obj;
+        else
+            obj.next.prev = obj;
+        size++;
+        snapshot = null;
+    }
+
+    /**
+     * Removes an object from the list.
+     * 
+     * @param obj       The object to remove.  It must be in this list.
+     */
+    synchronized void remove(GraphicsObject obj) {
+        if (obj.prev == null)
+            head = obj.next;
+        else
+            obj.prev.next = obj.next;
+
+        if (obj.next == null)
+            tail = obj.prev;
+        else
+            obj.next.prev = obj.prev;
+
+        obj.prev = null;
+        obj.next = null;
+        size--;
+        snapshot = null;
+    }
+
+    /**
+     * Removes every object from the list.
+     */
+    synchronized void clear() {
+        GraphicsObject obj = head;
+        while (obj != null) {
+            GraphicsObject next = obj.next;
+            obj.prev = null;
+            obj.next = null;
+            obj = next;
+        }
+        head = null;
+        tail = null;
+        size = 0;
+        snapshot = EMPTY;
+    }
+
+    /**
+     * Returns the number of objects in the list.
+     * 
+     * @return          The number of objects in the list.
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * Returns the objects in the list, from bottom to top, as they are
+     * right now.
+     * <p>
+     * The array is shared by everyone who asks for a snapshot before the
+     * list next changes, so it must not be modified.  It is safe to use
+     * from any thread, and is not affected by later changes to the list.
+     * 
+     * @return          The objects in the list.
+     */
+    GraphicsObject[] snapshot() {
+        GraphicsObject[] result = snapshot;
+        if (result != null)
+            return result;
+
+        synchronized (this) {
+            if (snapshot == null) {
+                result = new GraphicsObject[size];
+                int i = 0;
+                for (GraphicsObject obj = head; obj != null; obj = obj.next)
+                    result[i++] = obj;
+                snapshot = result;
+            }
+            return snapshot;
+        }
+    }
+
+    /**
+     * Returns the first (bottom-most) object in the list.
+     * 
+     * @return          The first object, or <code>null</code> if
+     *                  the list is empty.
+     */
+    GraphicsObject first() {
+        return head;
+    }
+
+    /**
+     * Returns an iterator over the objects in the list, from bottom
+     * to top.  The list must not be changed while iterating, so this
+     * may only be used by the thread that changes the list; painting
+     * uses <code>snapshot()</code> instead.
+     */
+    @Override
+    public Iterator<GraphicsObject> iterator() {
+        return new Iterator<GraphicsObject>() {
+            private GraphicsObject obj = head;
+
+            @Override
+            public boolean hasNext() {
+                return obj != null;
+            }
+
+            @Override
+            public GraphicsObject next() {
+                if (obj == null)
+                    throw new NoSuchElementException();
+                GraphicsObject result = obj;
+                obj = obj.next;
+                return result;
+            }
+        };
+    }
+}
@@ -0,0 +1,111 @@
+package Graphics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * The Java Flight Recorder events emitted by the library.
+ * <p>
+ * All of them are turned off unless a recording asks for them by name,
+ * for example with a <code>.jfc</code> settings file, or with
+ * <code>Recording.enable("Graphics.FramePainted")</code>.  While they
+ * are off, each place that could emit one just creates an event object
+ * that never leaves the method and asks it whether it is wanted, which
+ * the JIT compiler reduces to almost nothing.
+ * <p>
+ * Stack traces aren't recorded, since the events come from the same few
+ * places every time, and taking a stack trace would cost more than the
+ * rest of the event.
+ * <p>
+ * This class intentionally has package visibility.
+ */
+final class FlightEvents {
+
+    private FlightEvents() {
+    }
+
+    /**
+     * One redraw of (part of) a window; see
+     * <code>GraphWinMetricsMBean</code> for what counts as a frame.  The
+     * event's duration is the time taken to draw the frame.
+     */
+    @Name("Graphics.FramePainted")
+    @Label("Frame Painted")
+    @Category("Graphics")
+    @Description("A redraw of all or part of a GraphWin")
+    @Enabled(false)
+    @StackTrace(false)
+    static final class FramePainted extends Event {
+        @Label("Window")
+        String window;
+
+        @Label("Objects Drawn")
+        int objectsDrawn;
+
+        @Label("Objects Culled")
+        @Description("Objects skipped because they lay outside the area being redrawn")
+        int objectsCulled;
+    }
+
+    /**
+     * The objects drawn, undrawn and moved in a window between one
+     * update and the next.  For on-screen windows in autoflush mode,
+     * every change is a batch of its own.
+     */
+    @Name("Graphics.DisplayListBatch")
+    @Label("Display List Batch")
+    @Category("Graphics")
+    @Description("Objects drawn, undrawn and moved in a GraphWin between updates")
+    @Enabled(false)
+    @StackTrace(false)
+    static final class DisplayListBatch extends Event {
+        @Label("Window")
+        String window;
+
+        @Label("Draws")
+        int draws;
+
+        @Label("Undraws")
+        int undraws;
+
+        @Label("Moves")
+        int moves;
+
+        @Label("Display List Size")
+        @Description("The number of objects in the window after the batch")
+        int displayListSize;
+    }
+
+    /**
+     * A mouse click or key press being returned to the program.
+     */
+    @Name("Graphics.InputLatency")
+    @Label("Input Latency")
+    @Category("Graphics")
+    @Description("A mouse click or key press returned to the program by a GraphWin")
+    @Enabled(false)
+    @StackTrace(false)
+    static final class InputLatency extends Event {
+        @Label("Window")
+        String window;
+
+        @Label("Method")
+        @Description("The GraphWin method that returned the input")
+        String method;
+
+        @Label("Key")
+        @Description("For key presses, the key pressed")
+        String key;
+
+        @Label("Latency")
+        @Description("The time from the event's arrival from AWT to its return to the program")
+        @Timespan(Timespan.NANOSECONDS)
+        long latency;
+    }
+}
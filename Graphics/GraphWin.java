@@ -1,18 +1,26 @@
 package Graphics;
 
+import java.awt.Color;
 import java.awt.Dimension;
 import java.awt.Graphics;
+import java.awt.Graphics2D;
 import java.awt.event.KeyEvent;
 import java.awt.event.KeyListener;
 import java.awt.event.MouseEvent;
 import java.awt.event.MouseListener;
 import java.awt.event.WindowEvent;
 import java.awt.event.WindowListener;
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
 
 import javax.swing.JFrame;
 import javax.swing.JPanel;
+import javax.swing.SwingUtilities;
 
 /**
  * Represents a window on the screen where graphical images may be drawn.
@@ -25,6 +33,13 @@ import javax.swing.JPanel;
  * }
  * </pre>
  * This will create a 600 pixel by 600 pixel window
+ * <p>
+ * A <code>GraphWin</code> may also be created off-screen by calling
+ * <code>createOffscreen()</code>.  An off-screen window has no
+ * <code>JFrame</code> and never touches Swing; objects are drawn into a
+ * <code>BufferedImage</code> which can be retrieved with
+ * <code>getImage()</code>.  This works even when running with
+ * <code>java.awt.headless=true</code>.
  */
 
 public class GraphWin
@@ -32,9 +47,89 @@ public class GraphWin
     
     private JFrame frame;
     private GraphicsPanel panel;
-    private boolean closed;
+    private volatile boolean closed;
+
+    // The list of objects to be redrawn every time the window is
+    // redrawn.  This lives here rather than in GraphicsPanel so that
+    // off-screen windows (which have no GraphicsPanel) can share it.
+    private DisplayList displayList;
+    private long nextDrawOrder = 0;
+
+    // An optional index used to find the objects in a given area
+    // of the window without looking at the whole display list.
+    private volatile SpatialGrid spatialIndex;
+    private static final int GRID_CELL_SIZE = 64;
+
+    // The layers that have been made static, sorted by layer number.
+    // paintList is the display list as it is painted, with each static
+    // layer's objects replaced by the layer's saved picture; it is
+    // remade whenever the display list or the static layers change.
+    private volatile StaticLayer[] staticLayers = new StaticLayer[0];
+    private volatile StaticLayer.PaintList paintList;
+
+    // For off-screen windows, image is where everything gets drawn,
+    // and is null for on-screen windows.
+    //
+    // damage is the part of the window that has changed but has not
+    // been redrawn yet, or null if nothing has changed.  Off-screen,
+    // it is redrawn the next time someone asks for the image.
+    // On-screen, it is only used when autoFlush is false, and is
+    // redrawn the next time update() is called.
+    private BufferedImage image;
+    private java.awt.Rectangle damage;
+    private Color background;
+
+    // The sprites drawn in an off-screen window, or an on-screen window
+    // with a render thread, which are moved by saving and restoring the
+    // pixels under them.  This is null for other on-screen windows,
+    // where sprites are drawn like other objects.
+    private volatile SpriteSet sprites;
+
+    // Pixels set by plot() and plotPixel() go into pixelLayer, which
+    // is drawn over the background but under all the objects.  It isn't
+    // created until something is plotted.  pixels is the image's own
+    // pixel array, so plotting a pixel is just storing into an array.
+    //
+    // Plotted pixels are not redrawn one at a time; instead, the area
+    // containing them (plotMinX through plotMaxX, and plotMinY through
+    // plotMaxY) is redrawn as a whole.  On-screen, this is done on the
+    // Swing event thread, so these are guarded by plotLock.
+    private BufferedImage pixelLayer;
+    private int[] pixels;
+    private final Object plotLock = new Object();
+    private int plotMinX = Integer.MAX_VALUE;
+    private int plotMinY = Integer.MAX_VALUE;
+    private int plotMaxX = Integer.MIN_VALUE;
+    private int plotMaxY = Integer.MIN_VALUE;
+    private boolean plotRepaintPending = false;
+
+    // If true, large redraws of off-screen windows are split into
+    // tiles which are drawn by several threads at once.
+    private boolean parallelRendering = false;
+
+    // If queuedUpdates is true, changes to objects drawn in this window
+    // are added to commands (from any thread), and carried out by
+    // update() and getImage().
+    private volatile boolean queuedUpdates = false;
+    private final CommandQueue commands = new CommandQueue();
+
+    // Performance figures, also registered with the platform MBean
+    // server while the window is open.
+    private final GraphWinMetrics metrics = new GraphWinMetrics(this);
+
+    // The objects drawn, undrawn and moved since the last update, for
+    // the flight recorder's Graphics.DisplayListBatch event.  These are
+    // only changed by the thread making the changes.
+    private int batchDraws = 0;
+    private int batchUndraws = 0;
+    private int batchMoves = 0;
+
+    // If not null, objects in this (on-screen) window are drawn by
+    // renderer rather than by Swing's event thread.
+    private volatile RenderThread renderer;
 
     private boolean autoFlush;
+    private long lastUpdateTime = 0;
 
     private int windowWidth;
     private int windowHeight;
@@ -47,20 +142,22 @@ public class GraphWin
     private double xScale;
     private double yScale;
 
-    private int lastX = 0;
-    private int lastY = 0;
-    private boolean hasPoint = false;
+    // Incremented every time setCoords is called, so that objects
+    // can tell when their saved screen coordinates are out of date.
+    private int coordsVersion = 0;
 
-    // Invariant:
-    //      if hasChar is true, exactly one of lastChar or lastCode
-    //      is non-zero.
-    //
-    // a non-zero lastChar indicates that a normal key was pressed
-    // a non-zero lastCode indicates that a special key (e.g. an
-    // arrow key) was pressed
-    private char lastChar = 0;
-    private int lastCode = 0;
-    private boolean hasChar = false;
+    // Mouse clicks and key presses are delivered on the Swing event
+    // thread, but read by the program's thread.  They are handed over
+    // through these queues, so that clicks and keys that arrive while
+    // the program is busy are not lost.
+    private static final int INPUT_QUEUE_SIZE = 256;
+    private final InputRing mouseEvents = new InputRing(INPUT_QUEUE_SIZE);
+    private final InputRing keyEvents = new InputRing(INPUT_QUEUE_SIZE);
+
+    // getMouse() and getKey() wait on inputArrived, which is signalled
+    // whenever a click or key arrives or the window closes.
+    private final ReentrantLock inputLock = new ReentrantLock();
+    private final Condition inputArrived = inputLock.newCondition();
 
     private static final HashMap<Integer,String> specialKeys;
     static {
@@ -84,84 +181,407 @@ public class GraphWin
      * off-screen bitmap which is then bit-bltted to the screen (or it may use
      * screen-flipping; I'm not sure).
      * <p>
-     * This class intentionally has package visibiilty, since some methods in
-     * <code>GraphicsObject</code> need to add and remove items from the display
-     * list.
+     * The display list itself belongs to the <code>GraphWin</code>, since
+     * off-screen windows have no <code>GraphicsPanel</code>.
      */
     class GraphicsPanel extends JPanel {
 
-        /**
-         * The list of objects to be redrawn on every call to
-         * <code>paintComponent</code>.
-         */
-        private ArrayList<GraphicsObject> displayList;
-
         /**
          * Constructs a <code>>GraphicsPanel</code> with support for double
          * buffering.
          */
         public GraphicsPanel() {
             super(true);
-            displayList = new ArrayList<>();
         }
 
         /**
          * Repaints the window by called <code>doDraw()</code> for every object
-         * in the display list.  Objects are drawn in the order in which they
-         * are added.
+         * in the display list.  Objects are drawn layer by layer, and within
+         * a layer, in the order in which they are added.
          */
         @Override
         public void paintComponent(Graphics g) {
-            super.paintComponent(g);
-            for (GraphicsObject obj : displayList) {
-                obj.doDraw(g);
+            RenderThread r = renderer;
+            if (r != null) {
+                r.paintFront(g);
+                return;
             }
+
+            long start = metrics.startFrame();
+            super.paintComponent(g);
+            paintPixelLayer(g);
+            paintDisplayList(g);
+            metrics.endFrame(start);
         }
+    }
 
-        /**
-         * Adds a new object to the display list.
-         * 
-         * @param obj       The <code>GraphicsObject</code>
-         *                  to be added.
-         */
-        public void addObject(GraphicsObject obj) {
-            displayList.add(obj);
+    /**
+     * Draws every object in the display list.  Objects are drawn in the
+     * order in which they are added.
+     * <p>
+     * Objects whose screen bounds lie entirely outside the clip area of
+     * <code>g</code> are skipped, so repainting a small part of the window
+     * is much cheaper than repainting all of it.  If the spatial index
+     * is turned on, those objects aren't even looked at.
+     * <p>
+     * This is called on Swing's event thread for on-screen windows, so
+     * it works from a snapshot of the display list, and objects may be
+     * undrawn while it is running.  Those are skipped.
+     * 
+     * @param g         The <code>Graphics</code> object to draw into.
+     */
+    void paintDisplayList(Graphics g) {
+        java.awt.Rectangle clip = g.getClipBounds();
+        SpatialGrid grid = spatialIndex;
+        if (grid != null && clip != null && staticLayers.length == 0) {
+            int drawn = 0;
+            for (GraphicsObject obj : grid.query(clip)) {
+                if (obj.win == this && !obj.floating) {
+                    obj.doDraw(g);
+                    drawn++;
+                }
+            }
+            metrics.objectsPainted(drawn, Math.max(0, displayList.size() - drawn));
+            return;
         }
 
-        /**
-         * Removes the specified object from the display list.
-         * 
-         * @param obj
-         */
-        public void removeObject(GraphicsObject obj) {
-            // We don't want to use indexOf() because we're really looking
-            // for this exact object rather than using .equals().
-            for (int i = 0; i < displayList.size(); i++) {
-                if (displayList.get(i) == obj) {
-                    displayList.remove(i);
-                    return;
+        int drawn = 0;
+        int culled = 0;
+        for (GraphicsObject obj : paintObjects()) {
+            if (obj.win != this || obj.floating)
+                continue;
+            if (clip != null) {
+                java.awt.Rectangle bounds = obj.bounds();
+                if (bounds != null && !bounds.intersects(clip)) {
+                    culled++;
+                    continue;
                 }
             }
+            obj.doDraw(g);
+            drawn++;
+        }
+        metrics.objectsPainted(drawn, culled);
+    }
+
+    /**
+     * Returns the objects to paint, from bottom to top.  This is a
+     * snapshot of the display list, except that the objects in each
+     * static layer are replaced by the layer's saved picture, which is
+     * brought up to date first.
+     * 
+     * @return          The objects to paint.
+     */
+    private GraphicsObject[] paintObjects() {
+        GraphicsObject[] objects = displayList.snapshot();
+        StaticLayer[] layers = staticLayers;
+        if (layers.length == 0)
+            return objects;
+
+        StaticLayer.PaintList p = paintList;
+        if (p == null || !p.isFor(objects, layers)) {
+            p = new StaticLayer.PaintList(this, objects, layers);
+            paintList = p;
+        }
+        p.refresh();
+        return p.getObjects();
+    }
+
+    /**
+     * Returns the static layer with the given number.
+     * 
+     * @param layer     The layer number.
+     * @return          The layer, or <code>null</code> if that layer
+     *                  isn't static.
+     */
+    private StaticLayer staticLayer(int layer) {
+        for (StaticLayer sl : staticLayers) {
+            if (sl.getLayerNumber() == layer)
+                return sl;
         }
+        return null;
+    }
+
+    /**
+     * Marks the area covered by an object as out of date in the saved
+     * picture of its layer, if its layer is static.
+     * 
+     * @param obj       The object.
+     * @param area      The area to mark, or <code>null</code> for the
+     *                  whole window.
+     */
+    private void layerDamage(GraphicsObject obj, java.awt.Rectangle area) {
+        StaticLayer sl = staticLayer(obj.layer);
+        if (sl != null)
+            sl.invalidate(area);
     }
 
     /**
-     * Retrieves the <code>GraphicsPanel</code> object for this window.
+     * Updates the saved picture of an object's layer after the object
+     * has changed in place, without moving.  The caller is responsible
+     * for redrawing the area the object covers.
      * <p>
      * This method intentionally has package visibility.
      * 
-     * @return      The <code>GraphicsPanel</code> for this window.
+     * @param obj       The <code>GraphicsObject</code> that changed.
+     */
+    void objectChanged(GraphicsObject obj) {
+        SpriteSet ss = sprites;
+        if (ss != null && obj.sprite)
+            ss.changed(obj);
+        if (staticLayers.length != 0)
+            layerDamage(obj, obj.bounds());
+    }
+
+    /**
+     * Redraws an object after it has been made a sprite, or an ordinary
+     * object again.
+     * <p>
+     * This method intentionally has package visibility.
+     * 
+     * @param obj       The <code>GraphicsObject</code> that changed.
+     */
+    void spriteChanged(GraphicsObject obj) {
+        SpriteSet ss = sprites;
+        if (ss != null)
+            ss.changed(obj);
+        checkUpdate(obj.bounds());
+    }
+
+    /**
+     * Redraws part of the window: the background, the plotted pixels,
+     * and the objects.
+     * <p>
+     * This method intentionally has package visibility.
+     * 
+     * @param g         The <code>Graphics</code> object to draw into.
+     *                  Its clip area should be set to <code>area</code>.
+     * @param area      The area to redraw.
+     */
+    void paintArea(Graphics2D g, java.awt.Rectangle area) {
+        g.setColor(background);
+        g.fillRect(area.x, area.y, area.width, area.height);
+        paintPixelLayer(g);
+        paintDisplayList(g);
+    }
+
+    /**
+     * Draws the pixels set by <code>plot()</code> and
+     * <code>plotPixel()</code>, if there are any.
+     * 
+     * @param g         The <code>Graphics</code> object to draw into.
+     */
+    private void paintPixelLayer(Graphics g) {
+        if (pixelLayer != null)
+            g.drawImage(pixelLayer, 0, 0, null);
+    }
+
+    /**
+     * Adds a new object to the display list.
+     * <p>
+     * This method intentionally has package visibility.
+     * 
+     * @param obj       The <code>GraphicsObject</code>
+     *                  to be added.
+     */
+    void addObject(GraphicsObject obj) {
+        obj.drawOrder = nextDrawOrder++;
+        displayList.add(obj);
+        if (spatialIndex != null)
+            spatialIndex.insert(obj);
+        if (staticLayers.length != 0)
+            layerDamage(obj, obj.bounds());
+        batchDraws++;
+    }
+
+    /**
+     * Removes the specified object from the display list.
+     * <p>
+     * This method intentionally has package visibility.
+     * 
+     * @param obj       The <code>GraphicsObject</code>
+     *                  to be removed.
+     */
+    void removeObject(GraphicsObject obj) {
+        if (spatialIndex != null)
+            spatialIndex.remove(obj);
+        displayList.remove(obj);
+        SpriteSet ss = sprites;
+        if (ss != null && (obj.sprite || obj.floating))
+            ss.changed(obj);
+        if (staticLayers.length != 0)
+            layerDamage(obj, obj.bounds());
+        batchUndraws++;
+        if (image == null && autoFlush)
+            endBatch();
+    }
+
+    /**
+     * Updates the window after an object has moved.
+     * <p>
+     * This method intentionally has package visibility.
+     * 
+     * @param obj       The <code>GraphicsObject</code> that moved.
+     * @param before    The screen bounds of the object before it
+     *                  moved, or <code>null</code> if unknown.
+     */
+    void objectMoved(GraphicsObject obj, java.awt.Rectangle before) {
+        if (spatialIndex != null)
+            spatialIndex.update(obj);
+        batchMoves++;
+        if (image == null && autoFlush)
+            endBatch();
+
+        // A floating sprite just needs to be lifted off and put down
+        // again; see SpriteSet.
+        SpriteSet ss = sprites;
+        if (ss != null && obj.sprite && ss.moved(obj)) {
+            spriteMoved();
+            return;
+        }
+
+        java.awt.Rectangle after = obj.bounds();
+        if (staticLayers.length != 0) {
+            if (before == null || after == null) {
+                layerDamage(obj, null);
+            } else {
+                layerDamage(obj, before);
+                layerDamage(obj, after);
+            }
+        }
+
+        if (before == null || after == null) {
+            checkUpdate();
+        } else {
+            checkUpdate(before);
+            checkUpdate(after);
+        }
+    }
+
+    /**
+     * Draws a newly-added object on top of everything else.
+     * <p>
+     * On-screen in autoflush mode, the object is drawn immediately,
+     * unless the window has a render thread or the object is in a lower
+     * layer than some other object.  Otherwise, the area it covers is
+     * simply marked as needing to be redrawn.  In an off-screen window,
+     * a sprite is left for <code>getImage()</code> to draw.
+     * 
+     * @param obj       The <code>GraphicsObject</code> that was
+     *                  just added to the display list.
+     */
+    void drawObject(GraphicsObject obj) {
+        SpriteSet ss = sprites;
+        if (ss != null && obj.sprite) {
+            ss.changed(obj);
+            spriteMoved();
+        } else if (image == null && autoFlush && renderer == null && obj.next == null)
+            obj.doDraw(panel.getGraphics());
+        else
+            checkUpdate(obj.bounds());
+        if (image == null && autoFlush)
+            endBatch();
+    }
+
+    /**
+     * Wakes up the render thread, if there is one, to lift off and put
+     * down sprites that have changed without marking anything as
+     * needing to be redrawn.  As with other changes, this waits for
+     * <code>update()</code> if the window isn't in autoflush mode.
      */
-    GraphicsPanel getGraphicsPanel() {
-        return panel;
+    private void spriteMoved() {
+        RenderThread r = renderer;
+        if (r != null && autoFlush)
+            r.wakeup();
+    }
+
+    /**
+     * Reports the objects drawn, undrawn and moved since the last batch
+     * to the flight recorder, if it is recording
+     * <code>Graphics.DisplayListBatch</code> events, and starts a new
+     * batch.
+     */
+    private void endBatch() {
+        FlightEvents.DisplayListBatch e = new FlightEvents.DisplayListBatch();
+        if (e.shouldCommit() && (batchDraws | batchUndraws | batchMoves) != 0) {
+            e.window = metrics.title();
+            e.draws = batchDraws;
+            e.undraws = batchUndraws;
+            e.moves = batchMoves;
+            e.displayListSize = displayList.size();
+            e.commit();
+        }
+        batchDraws = 0;
+        batchUndraws = 0;
+        batchMoves = 0;
     }
 
     /**
      * Updates the screen if we are using autoflush mode.
+     * <p>
+     * Otherwise, the window is redrawn the next time
+     * <code>update()</code> is called.  Off-screen windows are always
+     * redrawn the next time <code>getImage()</code> is called.
      */
     void checkUpdate() {
-        if (autoFlush)
-            frame.repaint();
+        metrics.repaintRequested();
+        if (image == null && autoFlush) {
+            RenderThread r = renderer;
+            if (r != null)
+                r.invalidate(null);
+            else
+                frame.repaint();
+        } else {
+            addDamage(null);
+        }
+    }
+
+    /**
+     * Updates part of the screen if we are using autoflush mode.
+     * <p>
+     * Only objects that overlap <code>area</code> will be redrawn.
+     * 
+     * @param area      The area of the window, in screen coordinates,
+     *                  that needs to be redrawn, or <code>null</code>
+     *                  to redraw the entire window.
+     */
+    void checkUpdate(java.awt.Rectangle area) {
+        if (area == null) {
+            checkUpdate();
+        } else if (image == null && autoFlush) {
+            metrics.repaintRequested();
+            // Leave a one pixel margin for rounding errors.
+            java.awt.Rectangle r = new java.awt.Rectangle(
+                area.x - 1, area.y - 1, area.width + 2, area.height + 2);
+            RenderThread rt = renderer;
+            if (rt != null)
+                rt.invalidate(r);
+            else
+                panel.repaint(r);
+        } else {
+            metrics.repaintRequested();
+            addDamage(area);
+        }
+    }
+
+    /**
+     * Adds an area to the part of the window that needs
+     * to be redrawn.
+     * 
+     * @param area      The area to redraw, or <code>null</code> to
+     *                  redraw the whole image.
+     */
+    private void addDamage(java.awt.Rectangle area) {
+        if (area == null) {
+            damage = new java.awt.Rectangle(0, 0, windowWidth, windowHeight);
+            return;
+        }
+
+        java.awt.Rectangle r = new java.awt.Rectangle(
+            area.x - 1, area.y - 1, area.width + 2, area.height + 2);
+        if (damage == null)
+            damage = r;
+        else
+            damage.add(r);
     }
 
     /**
@@ -199,14 +619,18 @@ public class GraphWin
      * @param width         The width of the window in pixels.
      * @param height        The height of the window in pixels.
      * @param autoFlush     If <code>true</code>, the window is redrawn
-     *                      with every <code>move()</code> or
-     *                      <code>undraw()</code> operation.
+     *                      with every <code>draw()</code>,
+     *                      <code>move()</code> or <code>undraw()</code>
+     *                      operation.  If <code>false</code>, changes
+     *                      are saved up and drawn all at once when
+     *                      <code>update()</code> is called.
      */
     public GraphWin(String title, int width, int height, boolean autoFlush) {
 
         windowWidth = width;
         windowHeight = height;
         this.autoFlush = autoFlush;
+        displayList = new DisplayList();
 
         frame = new JFrame();
         frame.setTitle(title);
@@ -223,9 +647,12 @@ public class GraphWin
         panel.setPreferredSize(new Dimension(width, height));
         frame.pack();
         panel.setOpaque(true);
+        background = panel.getBackground();
     
         frame.setVisible(true);
         closed = false;
+        metrics.setTitle(title);
+        metrics.register();
 
         // The default coordinate system as (0,0) at the
         // top left corner.
@@ -244,6 +671,48 @@ public class GraphWin
         this(title, width, height, true);
     }
 
+    /**
+     * Creates an off-screen window.
+     * 
+     * @param width         The width of the image in pixels.
+     * @param height        The height of the image in pixels.
+     */
+    private GraphWin(int width, int height) {
+
+        windowWidth = width;
+        windowHeight = height;
+        this.autoFlush = true;
+        displayList = new DisplayList();
+
+        image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        sprites = new SpriteSet(this, displayList);
+        addDamage(null);
+        background = Color.WHITE;
+        closed = false;
+        metrics.setTitle("off-screen");
+
+        setCoords(0, height, width, 0);
+    }
+
+    /**
+     * Creates an off-screen window that draws into a
+     * <code>BufferedImage</code> instead of a window on the screen.
+     * <p>
+     * Off-screen windows do not create any Swing components, so they
+     * may be used when running with <code>java.awt.headless=true</code>.
+     * Objects are drawn and moved just as they are in an on-screen window,
+     * and <code>setCoords()</code> works the same way.  Since there is no
+     * mouse or keyboard, <code>getMouse()</code> and <code>getKey()</code>
+     * return <code>null</code> immediately.
+     * 
+     * @param width         The width of the image in pixels.
+     * @param height        The height of the image in pixels.
+     * @return              The new off-screen window.
+     */
+    public static GraphWin createOffscreen(int width, int height) {
+        return new GraphWin(width, height);
+    }
+
     ///////////////////////////////////////////////////////
     //
     // MouseListener methods
@@ -254,10 +723,10 @@ public class GraphWin
 
     @Override
     public void mouseClicked(MouseEvent e) {
-        this.lastX = e.getX();
-        this.lastY = e.getY();
-        this.hasPoint = true;
-        // System.out.printf("Mouse click at (%d,%d)\n", lastX, lastY);
+        mouseEvents.offer(new WindowInput(this, WindowInput.Type.MOUSE,
+            e.getX(), e.getY(), null, System.nanoTime()));
+        signalInput();
+        // System.out.printf("Mouse click at (%d,%d)\n", e.getX(), e.getY());
     }
 
     @Override
@@ -282,10 +751,8 @@ public class GraphWin
 
     @Override
     public void keyTyped(KeyEvent e) {
-        lastCode = 0;
-        lastChar = e.getKeyChar();
-        hasChar = true;
-        // System.out.printf("   keyTyped: Code %d, char %c\n", lastCode, lastChar);
+        offerKey(keyCodeToString(0, e.getKeyChar()));
+        // System.out.printf("   keyTyped: Code %d, char %c\n", e.getKeyCode(), e.getKeyChar());
     }
 
     @Override
@@ -296,13 +763,22 @@ public class GraphWin
     @Override
     public void keyReleased(KeyEvent e) {
         if (specialKeys.containsKey(e.getKeyCode())) {
-            lastCode = e.getKeyCode();
-            lastChar = 0;
-            hasChar = true;
+            offerKey(keyCodeToString(e.getKeyCode(), (char)0));
         }
         // System.out.printf("keyReleased: Code %d, char %c\n", e.getKeyCode(), e.getKeyChar());
     }
 
+    /**
+     * Queues a key press and wakes up anyone waiting for it.
+     * 
+     * @param key       The key, as returned by <code>keyCodeToString</code>.
+     */
+    private void offerKey(String key) {
+        keyEvents.offer(new WindowInput(this, WindowInput.Type.KEY,
+            0, 0, key, System.nanoTime()));
+        signalInput();
+    }
+
     ///////////////////////////////////////////////////////
     //
     // WindowListener methods
@@ -318,7 +794,12 @@ public class GraphWin
 
     @Override
     public void windowClosed(WindowEvent e) {
+        RenderThread r = renderer;
+        if (r != null)
+            r.shutdown();
+        metrics.unregister();
         closed = true;
+        signalInput();
     }
 
     @Override
@@ -370,10 +851,65 @@ public class GraphWin
      *                  coordinate point.
      */
     public java.awt.Point pointXYtoScreen(Point pt) {
-        int screenX = (int)((pt.getX() - xOffset) * xScale);
-        int screenY = (int)((pt.getY() - yOffset) * yScale);
-        screenY = (windowHeight-1) - screenY;
-        return new java.awt.Point(screenX, screenY);
+        return new java.awt.Point(toScreenX(pt.getX()), toScreenY(pt.getY()));
+    }
+
+    /**
+     * Translates a user x coordinate to a screen x coordinate.
+     * <p>
+     * This is the same transform used by <code>pointXYtoScreen()</code>,
+     * but doesn't require creating any objects, so it is the one used
+     * when drawing.
+     * 
+     * @param x         The x coordinate, in user coordinates.
+     * @return          The corresponding screen x coordinate.
+     */
+    public int toScreenX(double x) {
+        return (int)((x - xOffset) * xScale);
+    }
+
+    /**
+     * Translates a user y coordinate to a screen y coordinate.
+     * <p>
+     * This is the same transform used by <code>pointXYtoScreen()</code>,
+     * but doesn't require creating any objects, so it is the one used
+     * when drawing.
+     * 
+     * @param y         The y coordinate, in user coordinates.
+     * @return          The corresponding screen y coordinate.
+     */
+    public int toScreenY(double y) {
+        return (windowHeight-1) - (int)((y - yOffset) * yScale);
+    }
+
+    /**
+     * Returns a number that changes every time <code>setCoords()</code>
+     * is called.
+     * <p>
+     * This method intentionally has package visibility.
+     * 
+     * @return          The current coordinate system version.
+     */
+    int getCoordsVersion() {
+        return coordsVersion;
+    }
+
+    /**
+     * Returns the width of the window.
+     *
+     * @return          The width of the window, in pixels.
+     */
+    public int getWidth() {
+        return windowWidth;
+    }
+
+    /**
+     * Returns the height of the window.
+     *
+     * @return          The height of the window, in pixels.
+     */
+    public int getHeight() {
+        return windowHeight;
     }
 
     /**
@@ -400,13 +936,447 @@ public class GraphWin
         return (int)(dy * yScale);
     }
 
+    /**
+     * Redraws everything that has changed since the last update.
+     * <p>
+     * This is only needed if the window was created with
+     * <code>autoFlush</code> set to <code>false</code>.  In that case,
+     * drawing, moving and undrawing objects doesn't change what's on
+     * the screen until <code>update()</code> is called, and then all the
+     * changes are drawn at once.  Animations that move many objects per
+     * frame should call this once per frame.
+     * <p>
+     * For off-screen windows, this brings the image up to date.
+     */
+    public void update() {
+        lastUpdateTime = System.nanoTime();
+        runCommands();
+        if (image != null) {
+            getImage();
+            return;
+        }
+        endBatch();
+
+        java.awt.Rectangle plotted = takePlotDamage();
+        if (plotted != null)
+            addDamage(plotted);
+        RenderThread r = renderer;
+        if (damage != null) {
+            if (r != null)
+                r.invalidate(damage);
+            else
+                panel.repaint(damage);
+            damage = null;
+        } else if (r != null) {
+            // There may be sprites to move.
+            r.wakeup();
+        }
+    }
+
+    /**
+     * Redraws everything that has changed since the last update, after
+     * pausing long enough to keep the number of updates per second at
+     * or below <code>rate</code>.
+     * <p>
+     * Calling this once per frame in an animation loop keeps the
+     * animation running at a steady speed.  If the program takes longer
+     * than <code>1/rate</code> seconds between updates, there is no
+     * pause.
+     * 
+     * @param rate      The maximum number of updates per second.
+     * @throws InterruptedException     Thrown if the program is interrupted.
+     */
+    public void update(double rate) throws InterruptedException {
+        long pause = (long)(1e9 / rate) - (System.nanoTime() - lastUpdateTime);
+        if (pause > 0)
+            Thread.sleep(pause / 1000000, (int)(pause % 1000000));
+        update();
+    }
+
+    /**
+     * Undraws every object in the window.
+     * <p>
+     * This is much faster than calling <code>undraw()</code> on each
+     * object, and leaves the window empty.
+     */
+    public void undrawAll() {
+        runCommands();
+        for (GraphicsObject obj = displayList.first(); obj != null; obj = obj.next) {
+            obj.win = null;
+            batchUndraws++;
+        }
+        displayList.clear();
+        if (spatialIndex != null)
+            spatialIndex.clear();
+        for (StaticLayer sl : staticLayers)
+            sl.invalidate(null);
+        checkUpdate();
+        if (image == null && autoFlush)
+            endBatch();
+    }
+
+    /**
+     * Turns the spatial index on or off.
+     * <p>
+     * The spatial index keeps track of where each object is on the
+     * screen, so that redrawing part of the window and
+     * <code>findObjects()</code> only need to look at the objects in
+     * that part of the window.  This makes a big difference for windows
+     * with many thousands of objects, at the cost of some extra work
+     * whenever an object is drawn, moved, or undrawn.  It is off by
+     * default.
+     * 
+     * @param enabled   <code>true</code> to turn the index on, and
+     *                  <code>false</code> to turn it off.
+     */
+    public void setSpatialIndex(boolean enabled) {
+        if (!enabled) {
+            spatialIndex = null;
+        } else if (spatialIndex == null) {
+            SpatialGrid grid = new SpatialGrid(windowWidth, windowHeight, GRID_CELL_SIZE);
+            for (GraphicsObject obj : displayList)
+                grid.insert(obj);
+            spatialIndex = grid;
+        }
+    }
+
+    /**
+     * Turns parallel rendering on or off.
+     * <p>
+     * When parallel rendering is on, large redraws of an off-screen
+     * window are split into tiles, which are drawn at the same time by
+     * several threads.  This can make rendering a very large image with
+     * very many objects much faster on a machine with several cores.  It
+     * is off by default, and has no effect on on-screen windows, which
+     * are always drawn by Swing's event thread.
+     * <p>
+     * Objects are drawn in the same order either way, so turning this
+     * on doesn't change the image, except that the outline of a circle
+     * or oval may be a pixel off where it crosses from one tile to the
+     * next.
+     * 
+     * @param enabled   <code>true</code> to turn parallel rendering on,
+     *                  and <code>false</code> to turn it off.
+     */
+    public void setParallelRendering(boolean enabled) {
+        parallelRendering = enabled;
+    }
+
+    /**
+     * Makes a layer static, or dynamic again.
+     * <p>
+     * The objects in a static layer are drawn once into a saved picture,
+     * and from then on, redrawing the window just draws the picture
+     * instead of every object.  The picture is only drawn again (and
+     * only in the area affected) when one of the layer's objects is
+     * drawn, moved, undrawn, or has its colors or width changed, or
+     * when <code>setCoords()</code> is called.  This makes a big
+     * difference for windows with a large, unchanging background (a grid
+     * or a map, say) and a few moving objects on top of it, in another
+     * layer.
+     * <p>
+     * Layers are dynamic unless made static.
+     * 
+     * @param layer     The layer number.
+     * @param isStatic  <code>true</code> to make the layer static,
+     *                  and <code>false</code> to make it dynamic.
+     * @see GraphicsObject#setLayer(int)
+     */
+    public void setLayerStatic(int layer, boolean isStatic) {
+        if ((staticLayer(layer) != null) == isStatic)
+            return;
+
+        StaticLayer[] layers = staticLayers;
+        ArrayList<StaticLayer> list = new ArrayList<>(Arrays.asList(layers));
+        if (isStatic) {
+            int i = 0;
+            while (i < list.size() && list.get(i).getLayerNumber() < layer)
+                i++;
+            list.add(i, new StaticLayer(this, layer, windowWidth, windowHeight));
+        } else {
+            list.remove(staticLayer(layer));
+        }
+        staticLayers = list.toArray(new StaticLayer[0]);
+    }
+
+    /**
+     * Returns an indicator of whether a layer is static.
+     * 
+     * @param layer     The layer number.
+     * @return          <code>true</code> if the layer is static.
+     */
+    public boolean isLayerStatic(int layer) {
+        return staticLayer(layer) != null;
+    }
+
+    /**
+     * Returns the window's performance figures.  For on-screen windows,
+     * and off-screen windows for which <code>registerMetrics()</code> has
+     * been called, these are also registered with the platform MBean
+     * server, so they can be watched with any JMX client.
+     * 
+     * @return          The window's metrics.
+     */
+    public GraphWinMetricsMBean getMetrics() {
+        return metrics;
+    }
+
+    /**
+     * Registers an off-screen window's performance figures with the
+     * platform MBean server, under the name
+     * <code>Graphics:type=GraphWin,id=<i>n</i>,title="off-screen"</code>.
+     * <p>
+     * On-screen windows are registered when they are created.
+     * Off-screen windows are often created by the thousand to draw a
+     * picture each, so they aren't registered unless this is called.
+     * Calling it more than once, or for an on-screen window, does
+     * nothing.
+     */
+    public void registerMetrics() {
+        metrics.register();
+    }
+
+    /**
+     * Returns the window's metrics, for the render thread to record
+     * its frames in.
+     * <p>
+     * This method intentionally has package visibility.
+     * 
+     * @return          The window's metrics.
+     */
+    GraphWinMetrics metrics() {
+        return metrics;
+    }
+
+    /**
+     * Returns the number of objects drawn in the window.
+     * <p>
+     * This method intentionally has package visibility.
+     * 
+     * @return          The size of the display list.
+     */
+    int displayListSize() {
+        return displayList.size();
+    }
+
+    /**
+     * Returns the number of mouse clicks and key presses thrown away
+     * because they arrived while the input queues were full.
+     * <p>
+     * This method intentionally has package visibility.
+     * 
+     * @return          The number of events lost.
+     */
+    long inputEventsDropped() {
+        return mouseEvents.getDropped() + keyEvents.getDropped();
+    }
+
+    /**
+     * Returns the window's sprites, or <code>null</code> if the window
+     * draws sprites like other objects.
+     * <p>
+     * This method intentionally has package visibility.
+     * 
+     * @return          The sprites.
+     */
+    SpriteSet sprites() {
+        return sprites;
+    }
+
+    /**
+     * Turns the render thread on or off.
+     * <p>
+     * Normally, the objects in an on-screen window are drawn by Swing's
+     * event thread, which is also the thread that handles mouse clicks,
+     * key presses, and everything else that happens to the window.  If
+     * there are so many objects that drawing them takes a long time, the
+     * window can be slow to respond.  With the render thread on, the
+     * objects are drawn by a thread of their own, and the event thread
+     * only has to copy the finished picture to the screen.
+     * <p>
+     * The render thread keeps its own picture of the window, so sprites
+     * (see <code>GraphicsObject.setSprite()</code>) work in a window with
+     * a render thread, just as in an off-screen window.
+     * <p>
+     * This has no effect on off-screen windows.  It is off by default.
+     * 
+     * @param enabled   <code>true</code> to turn the render thread on,
+     *                  and <code>false</code> to turn it off.
+     */
+    public void setRenderThread(boolean enabled) {
+        if (panel == null || enabled == (renderer != null))
+            return;
+
+        if (enabled) {
+            sprites = new SpriteSet(this, displayList);
+            RenderThread r = new RenderThread(this, panel, windowWidth, windowHeight);
+            r.start();
+            r.invalidate(null);
+            renderer = r;
+        } else {
+            // The render thread has to be finished with the sprites
+            // before they can be drawn like ordinary objects again.
+            RenderThread r = renderer;
+            renderer = null;
+            r.finish();
+            sprites.ground();
+            sprites = null;
+            frame.repaint();
+        }
+    }
+
+    /**
+     * Turns queued updates on or off.
+     * <p>
+     * Normally, objects may only be drawn, moved, changed, and undrawn by
+     * one thread at a time.  When queued updates are on, calling
+     * <code>draw()</code> (for this window), or <code>move()</code>,
+     * <code>undraw()</code>, <code>setFill()</code>,
+     * <code>setOutline()</code> or <code>setWidth()</code> for an object
+     * drawn in this window, may be done from any number of threads at
+     * once.  Those calls don't change the object right away; instead,
+     * the change is added to a queue, and all the queued changes are
+     * carried out, in order, by the next call to <code>update()</code>
+     * (or <code>getImage()</code> for off-screen windows).  Until then,
+     * methods like <code>getCenter()</code> return the old values.
+     * <p>
+     * Only one thread may call <code>update()</code> or
+     * <code>getImage()</code>.  Other changes to objects (such as adding
+     * points to a <code>PointCloud</code>) are not queued.  Turning
+     * queued updates off carries out any changes still in the queue.
+     * 
+     * @param enabled   <code>true</code> to turn queued updates on,
+     *                  and <code>false</code> to turn them off.
+     */
+    public void setQueuedUpdates(boolean enabled) {
+        queuedUpdates = enabled;
+        if (!enabled)
+            runCommands();
+    }
+
+    /**
+     * Returns an indicator of whether the window is using queued
+     * updates.
+     * 
+     * @return          <code>true</code> if queued updates are on.
+     */
+    public boolean isQueuedUpdates() {
+        return queuedUpdates;
+    }
+
+    /**
+     * Adds a change to an object to the queue, to be carried out by
+     * the next update.  This may be called from any thread.
+     * <p>
+     * This method intentionally has package visibility.
+     * 
+     * @param cmd       The change to make.
+     */
+    void queueCommand(CommandQueue.Command cmd) {
+        commands.add(cmd);
+    }
+
+    /**
+     * Carries out every queued change, in the order they were queued.
+     */
+    private void runCommands() {
+        CommandQueue.Command cmd;
+        while ((cmd = commands.poll()) != null) {
+            switch (cmd.op) {
+                case CommandQueue.Command.DRAW:
+                    cmd.obj.drawNow(cmd.win);
+                    break;
+                case CommandQueue.Command.UNDRAW:
+                    cmd.obj.undrawNow();
+                    break;
+                case CommandQueue.Command.MOVE:
+                    cmd.obj.moveNow(cmd.dx, cmd.dy);
+                    break;
+                case CommandQueue.Command.SET_FILL:
+                    cmd.obj.doSetFill(cmd.color);
+                    cmd.obj.styleChanged();
+                    break;
+                case CommandQueue.Command.SET_OUTLINE:
+                    cmd.obj.doSetOutline(cmd.color);
+                    cmd.obj.styleChanged();
+                    break;
+                case CommandQueue.Command.SET_WIDTH:
+                    cmd.obj.doSetWidth(cmd.width);
+                    cmd.obj.styleChanged();
+                    break;
+                case CommandQueue.Command.SET_LAYER:
+                    cmd.obj.setLayerNow(cmd.layer);
+                    break;
+                case CommandQueue.Command.SET_SPRITE:
+                    cmd.obj.setSpriteNow(cmd.sprite);
+                    break;
+            }
+        }
+    }
+
+    /**
+     * Returns the objects drawn in this window that lie under
+     * the given point.
+     * <p>
+     * An object is considered to be under the point if the point lies
+     * within its bounding box, so (for example) a point just outside a
+     * circle but inside its bounding box will find the circle.
+     * 
+     * @param pt        The point to look at, in user coordinates.
+     * @return          The objects under the point, from bottom to top
+     *                  (so the topmost object is last).
+     */
+    public ArrayList<GraphicsObject> findObjects(Point pt) {
+        return findObjects(new java.awt.Rectangle(
+            toScreenX(pt.getX()), toScreenY(pt.getY()), 1, 1));
+    }
+
+    /**
+     * Returns the objects drawn in this window that overlap the
+     * rectangle with the given corners.
+     * <p>
+     * As with <code>findObjects(Point)</code>, an object's bounding box
+     * is used to decide whether it overlaps the rectangle.
+     * 
+     * @param p1        One corner of the rectangle, in user coordinates.
+     * @param p2        The opposite corner, in user coordinates.
+     * @return          The objects overlapping the rectangle, from
+     *                  bottom to top.
+     */
+    public ArrayList<GraphicsObject> findObjects(Point p1, Point p2) {
+        return findObjects(GraphicsObject.screenBounds(
+            toScreenX(p1.getX()), toScreenY(p1.getY()),
+            toScreenX(p2.getX()), toScreenY(p2.getY())));
+    }
+
+    /**
+     * Returns the objects whose screen bounds overlap the given
+     * screen area, from bottom to top.
+     */
+    private ArrayList<GraphicsObject> findObjects(java.awt.Rectangle area) {
+        if (spatialIndex != null)
+            return spatialIndex.query(area);
+
+        ArrayList<GraphicsObject> result = new ArrayList<>();
+        for (GraphicsObject obj : displayList) {
+            java.awt.Rectangle bounds = obj.bounds();
+            if (bounds == null || bounds.intersects(area))
+                result.add(obj);
+        }
+        return result;
+    }
+
     /**
      * Sets the background color of the window using a ColorRGB object.
      * 
      * @param color     The ColorRGB object containing the color to use.
      */
     public void setBackground(ColorRGB color) {
-        panel.setBackground(color.getColor());
+        background = color.getColor();
+        if (panel != null)
+            panel.setBackground(background);
+        if (panel == null || renderer != null)
+            checkUpdate();
     }
 
     /**
@@ -415,16 +1385,222 @@ public class GraphWin
      * @param color     The X11 color name to use.
      */
     public void setBackground(String color) {
-        setBackground(new ColorRGB(color));
+        setBackground(ColorRGB.named(color));
+    }
+
+    /**
+     * Draws a single black pixel at the given point, in user coordinates.
+     * 
+     * @param x         The x coordinate of the pixel.
+     * @param y         The y coordinate of the pixel.
+     */
+    public void plot(double x, double y) {
+        plotPixel(toScreenX(x), toScreenY(y), ColorRGB.of(0, 0, 0));
+    }
+
+    /**
+     * Draws a single pixel at the given point, in user coordinates.
+     * <p>
+     * Plotted pixels are not objects, so they can't be moved or undrawn,
+     * and they are always beneath any objects drawn in the window.
+     * Plotting is very fast, so it is a good way to draw a picture one
+     * pixel at a time.
+     * 
+     * @param x         The x coordinate of the pixel.
+     * @param y         The y coordinate of the pixel.
+     * @param color     The color of the pixel.
+     */
+    public void plot(double x, double y, ColorRGB color) {
+        plotPixel(toScreenX(x), toScreenY(y), color);
+    }
+
+    /**
+     * Draws a single pixel at the given point, in user coordinates,
+     * using an X11 color name.
+     * 
+     * @param x         The x coordinate of the pixel.
+     * @param y         The y coordinate of the pixel.
+     * @param color     The X11 color name to use.
+     */
+    public void plot(double x, double y, String color) {
+        plotPixel(toScreenX(x), toScreenY(y), ColorRGB.named(color));
+    }
+
+    /**
+     * Draws a single black pixel at the given point, in screen
+     * coordinates.
+     * 
+     * @param x         The x screen coordinate of the pixel.
+     * @param y         The y screen coordinate of the pixel.
+     */
+    public void plotPixel(int x, int y) {
+        plotPixel(x, y, ColorRGB.of(0, 0, 0));
+    }
+
+    /**
+     * Draws a single pixel at the given point, in screen coordinates.
+     * <p>
+     * This ignores any coordinate system set up by
+     * <code>setCoords()</code>.  Pixels outside the window are
+     * ignored.
+     * 
+     * @param x         The x screen coordinate of the pixel.
+     * @param y         The y screen coordinate of the pixel.
+     * @param color     The color of the pixel.
+     */
+    public void plotPixel(int x, int y, ColorRGB color) {
+        if (x < 0 || x >= windowWidth || y < 0 || y >= windowHeight)
+            return;
+
+        if (pixels == null) {
+            pixelLayer = new BufferedImage(windowWidth, windowHeight, BufferedImage.TYPE_INT_ARGB);
+            pixels = ((DataBufferInt) pixelLayer.getRaster().getDataBuffer()).getData();
+        }
+        pixels[y * windowWidth + x] = color.getColor().getRGB() | 0xff000000;
+        pixelPlotted(x, y);
+    }
+
+    /**
+     * Draws a single pixel at the given point, in screen coordinates,
+     * using an X11 color name.
+     * 
+     * @param x         The x screen coordinate of the pixel.
+     * @param y         The y screen coordinate of the pixel.
+     * @param color     The X11 color name to use.
+     */
+    public void plotPixel(int x, int y, String color) {
+        plotPixel(x, y, ColorRGB.named(color));
+    }
+
+    /**
+     * Adds a newly plotted pixel to the area that needs to be redrawn.
+     * <p>
+     * On-screen in autoflush mode, a repaint of that area is scheduled
+     * on the Swing event thread, unless one already is, so plotting many
+     * pixels in a row results in just a few repaints.
+     * 
+     * @param x         The x screen coordinate of the pixel.
+     * @param y         The y screen coordinate of the pixel.
+     */
+    private void pixelPlotted(int x, int y) {
+        synchronized (plotLock) {
+            if (x < plotMinX) plotMinX = x;
+            if (x > plotMaxX) plotMaxX = x;
+            if (y < plotMinY) plotMinY = y;
+            if (y > plotMaxY) plotMaxY = y;
+
+            if (image != null || !autoFlush || plotRepaintPending)
+                return;
+            plotRepaintPending = true;
+        }
+        metrics.repaintRequested();
+
+        RenderThread r = renderer;
+        if (r != null) {
+            r.wakeup();
+            return;
+        }
+        SwingUtilities.invokeLater(() -> {
+            java.awt.Rectangle area = takePlotDamage();
+            if (area != null)
+                panel.repaint(area);
+        });
+    }
+
+    /**
+     * Returns the area containing every pixel plotted since the last
+     * call, and starts over with an empty area.
+     * <p>
+     * This method intentionally has package visibility.
+     * 
+     * @return          The area containing the plotted pixels, or
+     *                  <code>null</code> if nothing has been plotted.
+     */
+    java.awt.Rectangle takePlotDamage() {
+        synchronized (plotLock) {
+            plotRepaintPending = false;
+            if (plotMinX > plotMaxX)
+                return null;
+
+            java.awt.Rectangle area = new java.awt.Rectangle(plotMinX, plotMinY,
+                plotMaxX - plotMinX + 1, plotMaxY - plotMinY + 1);
+            plotMinX = plotMinY = Integer.MAX_VALUE;
+            plotMaxX = plotMaxY = Integer.MIN_VALUE;
+            return area;
+        }
     }
 
     /**
      * Closes the window.
      */
     public void close() {
-        // See https://stackoverflow.com/questions/1234912/how-to-programmatically-close-a-jframe
-        frame.dispatchEvent(new WindowEvent(frame, WindowEvent.WINDOW_CLOSING));
+        if (frame != null) {
+            // See https://stackoverflow.com/questions/1234912/how-to-programmatically-close-a-jframe
+            frame.dispatchEvent(new WindowEvent(frame, WindowEvent.WINDOW_CLOSING));
+        }
+        RenderThread r = renderer;
+        if (r != null)
+            r.shutdown();
+        metrics.unregister();
         closed = true;
+        signalInput();
+    }
+
+    /**
+     * Returns an indicator of whether this is an off-screen window.
+     * 
+     * @return          <code>true</code> if this window was created
+     *                  by <code>createOffscreen()</code>.
+     */
+    public boolean isOffscreen() {
+        return image != null;
+    }
+
+    /**
+     * Returns the image that an off-screen window draws into.
+     * <p>
+     * Any part of the image that has changed since the last call is
+     * redrawn first.  The image is owned by the window, and will be
+     * overwritten the next time it is redrawn; copy it if you need
+     * to keep it around.
+     * 
+     * @return          The window contents, or <code>null</code> if
+     *                  this is an on-screen window.
+     */
+    public BufferedImage getImage() {
+        if (image == null) return null;
+
+        runCommands();
+        endBatch();
+        java.awt.Rectangle plotted = takePlotDamage();
+        if (plotted != null)
+            addDamage(plotted);
+        long start = metrics.startFrame();
+        SpriteSet ss = sprites;
+        damage = ss.lift(image, damage);
+        boolean drew = (damage != null);
+        if (damage != null) {
+            java.awt.Rectangle clip = damage.intersection(
+                new java.awt.Rectangle(0, 0, windowWidth, windowHeight));
+            damage = null;
+            if (parallelRendering
+                    && (clip.width > TileRenderer.TILE_SIZE || clip.height > TileRenderer.TILE_SIZE)) {
+                GraphicsObject[] objects = paintObjects();
+                int drawn = TileRenderer.render(image, clip, background, pixelLayer, objects);
+                metrics.objectsPainted(drawn, objects.length - drawn);
+            } else if (!clip.isEmpty()) {
+                Graphics2D g = image.createGraphics();
+                g.setClip(clip);
+                paintArea(g, clip);
+                g.dispose();
+            }
+        }
+        ss.paint(image);
+        if (ss.takeTouched() != null)
+            drew = true;
+        if (drew)
+            metrics.endFrame(start);
+        return image;
     }
 
     /**
@@ -447,55 +1623,109 @@ public class GraphWin
         return closed;
     }
 
+    /**
+     * Wakes up any thread waiting in <code>getMouse()</code> or
+     * <code>getKey()</code>.
+     */
+    private void signalInput() {
+        inputLock.lock();
+        try {
+            inputArrived.signalAll();
+        } finally {
+            inputLock.unlock();
+        }
+    }
+
+    /**
+     * Reports the time between an input event's arrival and its return
+     * to the program to the flight recorder, if it is recording
+     * <code>Graphics.InputLatency</code> events.
+     * 
+     * @param event     The event being returned.
+     * @param method    The name of the method returning it.
+     */
+    private void inputReturned(WindowInput event, String method) {
+        FlightEvents.InputLatency e = new FlightEvents.InputLatency();
+        if (e.shouldCommit()) {
+            e.window = metrics.title();
+            e.method = method;
+            e.key = event.getKey();
+            e.latency = System.nanoTime() - event.getTime();
+            e.commit();
+        }
+    }
+
+    /**
+     * Waits until there is an event in <code>queue</code> or the window
+     * closes, then takes the event.
+     * <p>
+     * The waiting thread is parked until the Swing event thread signals
+     * that input has arrived, so it uses no CPU while it waits.
+     * 
+     * @param queue     The queue of clicks or keys to wait for.
+     * @return          The oldest event in <code>queue</code>, or
+     *                  <code>null</code> if the window closed first.
+     * @throws InterruptedException     Thrown if the program is interrupted.
+     */
+    private WindowInput waitForInput(InputRing queue) throws InterruptedException {
+        while (true) {
+            WindowInput event = queue.poll();
+            if (event != null) return event;
+            if (closed) return null;
+
+            inputLock.lock();
+            try {
+                while (queue.isEmpty() && !closed)
+                    inputArrived.await();
+            } finally {
+                inputLock.unlock();
+            }
+        }
+    }
+
     /**
      * Waits for a mouse click and returns the user-coordinate point where
      * the mouse was clicked.
      * <p>
-     * I suspect the "proper" way to do this requires using threads, but since
-     * this not intended for production use, we should be okay here.
+     * Clicks are saved until they are asked for, so if the mouse was
+     * clicked more than once since the last call, this returns the
+     * earliest of those clicks right away.
      * 
      * @return      A Point object representing the user coordinate point
      *              where the mouse was clicked, or <code>null</code> if the
-     *              window is closed.
+     *              window is closed or off-screen.
      * @throws InterruptedException     Thrown if the program is interrupted.
      */
     public Point getMouse() throws InterruptedException {
-        while (!hasPoint && !closed) {
-            Thread.sleep(1);
-        }
+        if (image != null) return null;
 
-        if (closed) return null;
-
-        hasPoint = false;
-        return screenXYtoPoint(lastX, lastY);
+        WindowInput event = waitForInput(mouseEvents);
+        if (event == null) return null;
+        inputReturned(event, "getMouse");
+        return event.getPoint();
     }
 
     /**
-     * Returns the most recent user-coordinate point clicked, or
-     * <code>null</code> if no click has occurred since the last
-     * call to <code>getMouse()</code> or <code>checkMouse</code>.
+     * Returns the earliest user-coordinate point clicked that hasn't
+     * been returned yet, or <code>null</code> if no click has occurred
+     * since the last call to <code>getMouse()</code> or
+     * <code>checkMouse</code>.
      * <p>
-     * I suspect the "proper" way to do this requires using threads,
-     * but since this not intended for production use, we should be
-     * okay here.
+     * This never waits.
      * 
-     * @return           A Point object representing the most recent
-     *                  point clicked, or <code>null</code> if no click
-     *                  has happened since the last call to either
+     * @return           A Point object representing the point clicked,
+     *                  or <code>null</code> if there are no clicks
+     *                  that haven't already been returned by either
      *                  <code>getMouse()</code> or <code>checkMouse</code>.
      * @throws InterruptedException     Thrown if the program is interrupted.
      */
     public Point checkMouse() throws InterruptedException {
-        // Minor kludge: since we're running this all in a
-        // single thread, we need to provide some time for
-        // the event handling to kick in.
-        Thread.sleep(0);
-        if (!hasPoint || closed) {
-            return null;
-        } else {
-            hasPoint = false;
-            return screenXYtoPoint(lastX, lastY);
-        }
+        if (closed) return null;
+
+        WindowInput event = mouseEvents.poll();
+        if (event == null) return null;
+        inputReturned(event, "checkMouse");
+        return event.getPoint();
     }
 
     /**
@@ -506,49 +1736,80 @@ public class GraphWin
      * <code>String</code>.  Special keys (for example, arrow keys) are
      * returned as a descriptive <code>String</code>, such as "uparrow"
      * for the up arrow.
+     * <p>
+     * Key presses are saved until they are asked for, so if more than
+     * one key was pressed since the last call, this returns the earliest
+     * of those keys right away.
      * 
-     * @return              A <code>String</code> representing the last
+     * @return              A <code>String</code> representing the
      *                      key pressed, or <code>null</code> if the
-     *                      window was closed.
+     *                      window was closed or is off-screen.
      * @throws InterruptedException     Thrown if the program is interrupted.
      */
     public String getKey() throws InterruptedException {
-        while (!hasChar && !closed) {
-            Thread.sleep(1);
-        }
-
-        if (closed) return null;
+        if (image != null) return null;
 
-        hasChar = false;
-        return keyCodeToString(lastCode, lastChar);
+        WindowInput event = waitForInput(keyEvents);
+        if (event == null) return null;
+        inputReturned(event, "getKey");
+        return event.getKey();
     }
 
     /**
-     * Returns the most recent key pressed, or <code>null</code> if no key
-     * press has occurred since the last call to <code>getKey()</code> or
-     * <code>checkKey</code>.
+     * Returns the earliest key pressed that hasn't been returned yet,
+     * or <code>null</code> if no key press has occurred since the last
+     * call to <code>getKey()</code> or <code>checkKey</code>.
      * <p>
-     * I suspect the "proper" way to do this requires using threads,
-     * but since this not intended for production use, we should be
-     * okay here.
+     * This never waits.
      * 
-     * @return           A <code>String</code> representing the last
-     *                  key pressed, or <code>null</code> if no key was
-     *                  pressed since the last call to either
-     *                  <code>getKey()</code> or <code>checkKey</code>.
+     * @return           A <code>String</code> representing the key
+     *                  pressed, or <code>null</code> if there are no
+     *                  key presses that haven't already been returned
+     *                  by either <code>getKey()</code> or
+     *                  <code>checkKey</code>.
      * @throws InterruptedException     Thrown if the program is interrupted.
      */
     public String checkKey() throws InterruptedException {
-        // Minor kludge: since we're running this all in a
-        // single thread, we need to provide some time for
-        // the event handling to kick in.
-        Thread.sleep(0);
-        if (!hasChar || closed) {
-            return null;
-        } else {
-            hasChar = false;
-            return keyCodeToString(lastCode, lastChar);
+        if (closed) return null;
+
+        WindowInput event = keyEvents.poll();
+        if (event == null) return null;
+        inputReturned(event, "checkKey");
+        return event.getKey();
+    }
+
+    /**
+     * Returns every mouse click and key press that hasn't been returned
+     * yet, in the order in which they happened.
+     * <p>
+     * This never waits.  Calling this once per frame in a game loop
+     * handles all the input since the last frame, no matter how fast it
+     * arrived.  The window saves up to 256 clicks and 256 key presses;
+     * if more arrive before they are read, the oldest are lost (and
+     * counted by the window's metrics; see <code>getMetrics()</code>).
+     * 
+     * @return          A list of the pending events, which is empty
+     *                  if there are none.
+     */
+    public ArrayList<WindowInput> checkEvents() {
+        ArrayList<WindowInput> events = new ArrayList<>();
+        if (closed) return events;
+
+        // Merge the two queues by time.
+        WindowInput mouse = mouseEvents.poll();
+        WindowInput key = keyEvents.poll();
+        while (mouse != null || key != null) {
+            if (key == null || (mouse != null && mouse.getTime() - key.getTime() <= 0)) {
+                events.add(mouse);
+                mouse = mouseEvents.poll();
+            } else {
+                events.add(key);
+                key = keyEvents.poll();
+            }
         }
+        for (WindowInput event : events)
+            inputReturned(event, "checkEvents");
+        return events;
     }
 
     /**
@@ -581,5 +1842,16 @@ public class GraphWin
         yScale = windowHeight / dy;
         xOffset = xmin;
         yOffset = ymin;
+        coordsVersion++;
+        for (StaticLayer sl : staticLayers)
+            sl.invalidate(null);
+        checkUpdate();
+
+        // Every object's screen bounds just changed.
+        if (spatialIndex != null) {
+            spatialIndex.clear();
+            for (GraphicsObject obj : displayList)
+                spatialIndex.insert(obj);
+        }
     }
 }
@@ -0,0 +1,429 @@
+package Graphics;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import javax.management.StandardMBean;
+
+/**
+ * Keeps the performance figures for one window, and registers them
+ * with the platform MBean server.  See <code>GraphWinMetricsMBean</code>.
+ * <p>
+ * Frames are recorded by whichever thread draws the window, and redraw
+ * requests by the program's thread, so the counts are
+ * <code>LongAdder</code>s, and the recent frames are guarded by the
+ * object's own lock, which is only held for a few array stores per
+ * frame.
+ * <p>
+ * The metrics only hold a weak reference to their window, so a window
+ * that is dropped without being closed (as off-screen windows usually
+ * are) can still be garbage collected.  Its registration stays behind
+ * until the next time a window's metrics are registered, which removes
+ * the registrations of every window that has been collected since.
+ * <p>
+ * Each frame is also reported to Java Flight Recorder as a
+ * <code>Graphics.FramePainted</code> event, if a recording has asked
+ * for those (see <code>FlightEvents</code>).
+ * <p>
+ * This class intentionally has package visibility.
+ */
+class GraphWinMetrics implements GraphWinMetricsMBean {
+
+    private static final int RECENT_FRAMES = 1024;
+    private static final long ONE_SECOND = 1_000_000_000L;
+
+    private static final AtomicLong nextId = new AtomicLong(1);
+
+    // Every registered set of metrics, so that those whose windows have
+    // been garbage collected can be unregistered.
+    private static final ArrayList<GraphWinMetrics> registered = new ArrayList<>();
+
+    // Used to measure the memory allocated while drawing, or null if
+    // the Java virtual machine can't do that.
+    private static final com.sun.management.ThreadMXBean allocations = allocationBean();
+
+    // name is the name the metrics are registered under, if they are,
+    // and closed is set when the window is closed.  Both are guarded by
+    // the registered list's lock.  requested is set by the first call
+    // to register().
+    private final WeakReference<GraphWin> window;
+    private ObjectName name;
+    private boolean closed = false;
+    private final AtomicBoolean requested = new AtomicBoolean();
+
+    // The window's title, used in the registered name and in flight
+    // recorder events.
+    private volatile String title = "";
+
+    private final LongAdder repaintRequests = new LongAdder();
+    private final LongAdder objectsDrawn = new LongAdder();
+    private final LongAdder objectsCulled = new LongAdder();
+
+    // The window's count of lost input events when reset() was last
+    // called; the window's own count is never reset.
+    private long inputDroppedAtReset = 0;
+
+    // The most recent frames, used as circular buffers: for each frame,
+    // how long it took, when it finished, and how many bytes were
+    // allocated while drawing it.  The buffers grow as frames are
+    // drawn, up to RECENT_FRAMES, so that a window that only draws a
+    // frame or two (as off-screen windows often do) doesn't pay for
+    // them.  allocAtStart is the current thread's allocation count when
+    // the frame in progress started.
+    private long frames = 0;
+    private long[] frameNanos = new long[0];
+    private long[] frameEnds = new long[0];
+    private long[] frameBytes = new long[0];
+    private long allocAtStart;
+
+    // The objects drawn and skipped in the frame in progress, and its
+    // flight recorder event, or null if nobody is recording them.
+    private int frameDrawn;
+    private int frameCulled;
+    private FlightEvents.FramePainted frameEvent;
+
+    /**
+     * Creates the metrics for a window.  They aren't registered until
+     * <code>register()</code> is called.
+     *
+     * @param win       The window.
+     */
+    GraphWinMetrics(GraphWin win) {
+        window = new WeakReference<>(win);
+    }
+
+    /**
+     * Sets the window's title, as used in the registered name and in
+     * flight recorder events.  This must be called before
+     * <code>register()</code>.
+     *
+     * @param title     The window's title.
+     */
+    void setTitle(String title) {
+        this.title = title;
+    }
+
+    /**
+     * Registers the metrics with the platform MBean server, unless they
+     * have already been registered.  If that can't be done, the metrics
+     * are still kept, and are available from
+     * <code>GraphWin.getMetrics()</code>.
+     * <p>
+     * Starting up the MBean server the first time takes a noticeable
+     * fraction of a second, so that is done in the background, by a
+     * thread from the common <code>ForkJoinPool</code>; the window can be
+     * used straight away.
+     */
+    void register() {
+        if (requested.compareAndSet(false, true)) {
+            String t = title;
+            ForkJoinPool.commonPool().execute(() -> registerNow(t));
+        }
+    }
+
+    private void registerNow(String title) {
+        try {
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            synchronized (registered) {
+                if (closed)
+                    return;
+
+                Iterator<GraphWinMetrics> it = registered.iterator();
+                while (it.hasNext()) {
+                    GraphWinMetrics m = it.next();
+                    if (m.window.get() == null) {
+                        m.unregisterFrom(server);
+                        it.remove();
+                    }
+                }
+
+                ObjectName n = new ObjectName("Graphics:type=GraphWin,id="
+                    + nextId.getAndIncrement() + ",title=" + ObjectName.quote(title));
+                server.registerMBean(new StandardMBean(this, GraphWinMetricsMBean.class), n);
+                name = n;
+                registered.add(this);
+            }
+        } catch (JMException | SecurityException e) {
+            // The metrics are still available from getMetrics().
+        }
+    }
+
+    /**
+     * Removes the metrics from the platform MBean server, if they were
+     * registered, or makes sure they never are, if they haven't been
+     * yet.
+     */
+    void unregister() {
+        synchronized (registered) {
+            closed = true;
+            if (name == null)
+                return;
+            try {
+                unregisterFrom(ManagementFactory.getPlatformMBeanServer());
+            } catch (SecurityException e) {
+                // Nothing more can be done.
+            }
+            registered.remove(this);
+        }
+    }
+
+    private void unregisterFrom(MBeanServer server) {
+        ObjectName n = name;
+        name = null;
+        if (n == null)
+            return;
+        try {
+            server.unregisterMBean(n);
+        } catch (JMException e) {
+            // Already gone.
+        }
+    }
+
+    /**
+     * Returns the window's title, as given to <code>setTitle()</code>.
+     *
+     * @return          The title.
+     */
+    String title() {
+        return title;
+    }
+
+    /**
+     * Notes that part of the window has been marked as needing to be
+     * redrawn.
+     */
+    void repaintRequested() {
+        repaintRequests.increment();
+    }
+
+    /**
+     * Notes the objects looked at while redrawing part of the window.
+     *
+     * @param drawn     The number of objects drawn.
+     * @param culled    The number of objects skipped because they lay
+     *                  outside the area being redrawn.
+     */
+    void objectsPainted(int drawn, int culled) {
+        objectsDrawn.add(drawn);
+        objectsCulled.add(culled);
+        frameDrawn += drawn;
+        frameCulled += culled;
+    }
+
+    /**
+     * Notes that a frame is starting.  Frames are assumed to be drawn
+     * by one thread at a time.
+     *
+     * @return          The time the frame started, to be passed to
+     *                  <code>endFrame()</code>.
+     */
+    long startFrame() {
+        frameDrawn = 0;
+        frameCulled = 0;
+        FlightEvents.FramePainted e = new FlightEvents.FramePainted();
+        if (e.isEnabled()) {
+            e.begin();
+            frameEvent = e;
+        } else {
+            frameEvent = null;
+        }
+        allocAtStart = threadAllocatedBytes();
+        return System.nanoTime();
+    }
+
+    /**
+     * Notes that a frame has finished.
+     *
+     * @param start     The value returned by <code>startFrame()</code>.
+     */
+    void endFrame(long start) {
+        long end = System.nanoTime();
+        long bytes = (allocAtStart < 0) ? -1 : threadAllocatedBytes() - allocAtStart;
+        synchronized (this) {
+            if (frames < RECENT_FRAMES && frames == frameNanos.length) {
+                int n = (int)Math.min(Math.max(16, frames * 2), RECENT_FRAMES);
+                frameNanos = Arrays.copyOf(frameNanos, n);
+                frameEnds = Arrays.copyOf(frameEnds, n);
+                frameBytes = Arrays.copyOf(frameBytes, n);
+            }
+            int i = (int)(frames % RECENT_FRAMES);
+            frameNanos[i] = end - start;
+            frameEnds[i] = end;
+            frameBytes[i] = bytes;
+            frames++;
+        }
+
+        FlightEvents.FramePainted e = frameEvent;
+        if (e != null) {
+            frameEvent = null;
+            e.end();
+            if (e.shouldCommit()) {
+                e.window = title;
+                e.objectsDrawn = frameDrawn;
+                e.objectsCulled = frameCulled;
+                e.commit();
+            }
+        }
+    }
+
+    @Override
+    public synchronized long getFrameCount() {
+        return frames;
+    }
+
+    @Override
+    public synchronized double getFramesPerSecond() {
+        return recentFrames(System.nanoTime());
+    }
+
+    @Override
+    public double getFrameTimeP50Millis() {
+        return frameTimePercentile(0.50);
+    }
+
+    @Override
+    public double getFrameTimeP90Millis() {
+        return frameTimePercentile(0.90);
+    }
+
+    @Override
+    public double getFrameTimeP99Millis() {
+        return frameTimePercentile(0.99);
+    }
+
+    @Override
+    public double getFrameTimeMaxMillis() {
+        return frameTimePercentile(1.0);
+    }
+
+    @Override
+    public int getDisplayListSize() {
+        GraphWin win = window.get();
+        return (win == null) ? 0 : win.displayListSize();
+    }
+
+    @Override
+    public long getObjectsDrawn() {
+        return objectsDrawn.sum();
+    }
+
+    @Override
+    public long getObjectsCulled() {
+        return objectsCulled.sum();
+    }
+
+    @Override
+    public long getRepaintRequests() {
+        return repaintRequests.sum();
+    }
+
+    @Override
+    public long getRepaintsCoalesced() {
+        return Math.max(0, repaintRequests.sum() - getFrameCount());
+    }
+
+    @Override
+    public synchronized long getAllocatedBytesPerFrame() {
+        int n = (int)Math.min(frames, RECENT_FRAMES);
+        if (n == 0)
+            return 0;
+        long total = 0;
+        for (int i = 0; i < n; i++) {
+            if (frameBytes[i] < 0)
+                return -1;
+            total += frameBytes[i];
+        }
+        return total / n;
+    }
+
+    @Override
+    public synchronized double getAllocationRateBytesPerSecond() {
+        long now = System.nanoTime();
+        int n = (int)Math.min(frames, RECENT_FRAMES);
+        long total = 0;
+        for (int i = 0; i < n; i++) {
+            if (now - frameEnds[i] > ONE_SECOND)
+                continue;
+            if (frameBytes[i] < 0)
+                return -1;
+            total += frameBytes[i];
+        }
+        return total;
+    }
+
+    @Override
+    public synchronized long getInputEventsDropped() {
+        GraphWin win = window.get();
+        return (win == null) ? 0 : win.inputEventsDropped() - inputDroppedAtReset;
+    }
+
+    @Override
+    public synchronized void reset() {
+        GraphWin win = window.get();
+        if (win != null)
+            inputDroppedAtReset = win.inputEventsDropped();
+        frames = 0;
+        repaintRequests.reset();
+        objectsDrawn.reset();
+        objectsCulled.reset();
+    }
+
+    // Returns the number of recent frames that finished within the
+    // second before now.  The caller must hold the lock.
+    private int recentFrames(long now) {
+        int n = (int)Math.min(frames, RECENT_FRAMES);
+        int count = 0;
+        for (int i = 0; i < n; i++) {
+            if (now - frameEnds[i] <= ONE_SECOND)
+                count++;
+        }
+        return count;
+    }
+
+    // Returns the given percentile (as a fraction) of the recent frame
+    // times, in milliseconds.
+    private double frameTimePercentile(double p) {
+        long[] times;
+        synchronized (this) {
+            times = Arrays.copyOf(frameNanos, (int)Math.min(frames, RECENT_FRAMES));
+        }
+        if (times.length == 0)
+            return 0.0;
+        Arrays.sort(times);
+        int i = (int)Math.ceil(p * times.length) - 1;
+        return times[Math.max(i, 0)] / 1e6;
+    }
+
+    // Returns the number of bytes allocated so far by the current
+    // thread, or -1 if that can't be measured.
+    private static long threadAllocatedBytes() {
+        if (allocations == null)
+            return -1;
+        return allocations.getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+
+    private static com.sun.management.ThreadMXBean allocationBean() {
+        try {
+            ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+            if (bean instanceof com.sun.management.ThreadMXBean) {
+                com.sun.management.ThreadMXBean sun = (com.sun.management.ThreadMXBean)bean;
+                if (sun.isThreadAllocatedMemorySupported() && sun.isThreadAllocatedMemoryEnabled())
+                    return sun;
+            }
+        } catch (LinkageError | SecurityException e) {
+            // Fall through.
+        }
+        return null;
+    }
+}
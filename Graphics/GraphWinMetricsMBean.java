@@ -0,0 +1,142 @@
+package Graphics;
+
+/**
+ * Performance figures for one <code>GraphWin</code>.
+ * <p>
+ * Every window keeps these figures.  On-screen windows register them
+ * with the platform MBean server under the name
+ * <code>Graphics:type=GraphWin,id=<i>n</i>,title=<i>title</i></code>,
+ * so they can be watched with <code>jconsole</code> or any other JMX
+ * client while a program runs; off-screen windows only do so if
+ * <code>GraphWin.registerMetrics()</code> is called.  The figures are
+ * also available from <code>GraphWin.getMetrics()</code>.  The
+ * registration is removed when the window is closed.
+ * <p>
+ * A frame is one redraw of (part of) the window: one call to the
+ * panel's <code>paintComponent()</code>, one pass of the render thread,
+ * or one call to <code>getImage()</code> that had something to redraw.
+ * Frame times and allocation figures cover the most recent frames
+ * (up to 1024 of them); the counts cover everything since the window
+ * was created or <code>reset()</code> was last called.
+ * <p>
+ * Keeping these figures costs a few counter increments per frame and
+ * per redraw request, so they are always on.
+ */
+public interface GraphWinMetricsMBean {
+
+    /**
+     * Returns the number of frames drawn.
+     *
+     * @return          The number of frames.
+     */
+    long getFrameCount();
+
+    /**
+     * Returns the number of frames drawn in the last second.
+     *
+     * @return          The frame rate, in frames per second.
+     */
+    double getFramesPerSecond();
+
+    /**
+     * Returns the median time taken to draw a frame.
+     *
+     * @return          The time, in milliseconds.
+     */
+    double getFrameTimeP50Millis();
+
+    /**
+     * Returns the time within which 90% of frames were drawn.
+     *
+     * @return          The time, in milliseconds.
+     */
+    double getFrameTimeP90Millis();
+
+    /**
+     * Returns the time within which 99% of frames were drawn.
+     *
+     * @return          The time, in milliseconds.
+     */
+    double getFrameTimeP99Millis();
+
+    /**
+     * Returns the longest time taken to draw a frame.
+     *
+     * @return          The time, in milliseconds.
+     */
+    double getFrameTimeMaxMillis();
+
+    /**
+     * Returns the number of objects currently drawn in the window.
+     *
+     * @return          The size of the display list.
+     */
+    int getDisplayListSize();
+
+    /**
+     * Returns the number of times an object has been drawn while
+     * redrawing the window.
+     *
+     * @return          The number of objects drawn.
+     */
+    long getObjectsDrawn();
+
+    /**
+     * Returns the number of times an object has been skipped while
+     * redrawing the window, because it lay entirely outside the area
+     * being redrawn.
+     *
+     * @return          The number of objects skipped.
+     */
+    long getObjectsCulled();
+
+    /**
+     * Returns the number of times part of the window has been marked as
+     * needing to be redrawn, for example because an object moved.
+     *
+     * @return          The number of redraw requests.
+     */
+    long getRepaintRequests();
+
+    /**
+     * Returns the number of redraw requests that were combined with
+     * other requests rather than getting a frame of their own.  This is
+     * the number of requests less the number of frames (or 0 if there
+     * have been more frames than requests).
+     *
+     * @return          The number of combined requests.
+     */
+    long getRepaintsCoalesced();
+
+    /**
+     * Returns an estimate of the number of bytes of memory allocated
+     * while drawing a frame, averaged over recent frames.
+     *
+     * @return          The number of bytes, or -1 if the Java virtual
+     *                  machine can't measure it.
+     */
+    long getAllocatedBytesPerFrame();
+
+    /**
+     * Returns an estimate of the number of bytes of memory allocated
+     * per second by drawing frames, over the last second.
+     *
+     * @return          The number of bytes per second, or -1 if the
+     *                  Java virtual machine can't measure it.
+     */
+    double getAllocationRateBytesPerSecond();
+
+    /**
+     * Returns the number of mouse clicks and key presses that were
+     * lost because the program didn't read them before the window's
+     * input queues filled up.
+     *
+     * @return          The number of events lost.
+     */
+    long getInputEventsDropped();
+
+    /**
+     * Sets all the counts back to zero and forgets the recent frames.
+     */
+    void reset();
+}
@@ -2,6 +2,8 @@ package Graphics;
 
 import java.awt.Graphics;
 
+import Graphics.CommandQueue.Command;
+
 /**
  * This is the base class for all graphics objects.
  * 
@@ -23,15 +25,49 @@ import java.awt.Graphics;
  * <code>doMove()</code> only needs to modify the coordinates of the object;
  * the redrawing is done by the base class.
  * <p>
- * Derived classes should also optionally override <code>setFill</code>,
- * <code>setOutline</code>, and <code>setWidth</code> if they can support
- * those operations.  The versions of <code>setFill</code> and
- * <code>setOutline</code> that take color names are handled in this
- * class, and result in a call to the corresponding function that takes
- * a <code>ColorRGB</code> object.
+ * Derived classes should also override <code>getScreenBounds()</code> so
+ * that moving or undrawing the object only redraws the part of the window
+ * it covers.  Objects that don't override it cause the entire window to
+ * be redrawn.
+ * <p>
+ * Converting user coordinates to screen coordinates is too slow to do on
+ * every redraw of a large scene, so derived classes can keep their screen
+ * coordinates around.  They do this by overriding
+ * <code>updateScreenGeometry()</code> to compute them, and calling
+ * <code>checkScreenGeometry()</code> at the start of <code>doDraw()</code>
+ * and <code>getScreenBounds()</code>.  The screen coordinates are only
+ * recomputed after the object moves or the window's coordinates change.
+ * <p>
+ * Derived classes should also optionally override <code>doSetFill</code>,
+ * <code>doSetOutline</code>, and <code>doSetWidth</code> if they can
+ * support those operations.  The public <code>setFill</code>,
+ * <code>setOutline</code>, and <code>setWidth</code> methods are handled
+ * in this class, and result in a call to the corresponding
+ * <code>doSet</code> method, possibly later (see below).  They can still
+ * be overridden, as they could before the <code>doSet</code> methods
+ * existed, but an override that doesn't call the base class method
+ * makes its change right away, on the calling thread, and has to
+ * redraw the object itself.
+ * <p>
+ * If the object is drawn in a window using queued updates (see
+ * <code>GraphWin.setQueuedUpdates()</code>), <code>draw()</code>,
+ * <code>move()</code>, <code>undraw()</code>, and the
+ * <code>set</code> methods may be called from any thread.  They don't
+ * change the object right away; the change is carried out by the window
+ * the next time it is updated.
  * <p>
  * The <code>undraw()</code> function is handled entirely within the
  * <code>GraphicsObject</code> class.
+ * <p>
+ * Every object belongs to a layer (layer 0 unless
+ * <code>setLayer()</code> says otherwise).  Objects in higher layers are
+ * always drawn on top of objects in lower layers, whatever order they
+ * were drawn in.
+ * <p>
+ * Small objects that move a lot can be made sprites with
+ * <code>setSprite()</code>; in off-screen windows, and on-screen windows
+ * with a render thread, they are then moved by putting back the pixels
+ * they covered, rather than by redrawing everything under them.
  */
 public abstract class GraphicsObject implements Cloneable {
 
@@ -41,8 +77,57 @@ public abstract class GraphicsObject implements Cloneable {
      * An object may only be drawn in one window at a time.  If
      * <code>win</code> is <code>null</code>, the object is not
      * currently drawn in any window.
+     * <p>
+     * This is volatile because, in a window using queued updates, other
+     * threads read it to decide whether changes must be queued.
      */
-    protected GraphWin win = null;
+    protected volatile GraphWin win = null;
+
+    // Bookkeeping used by GraphWin.  prev and next link the object
+    // into the window's DisplayList, layer and drawOrder give the
+    // object's position in the z-order, and the rest is used by the window's
+    // SpatialGrid (if it has one).
+    GraphicsObject prev;
+    GraphicsObject next;
+    int layer = 0;
+    long drawOrder;
+    java.awt.Rectangle gridCells;
+    int gridMark;
+
+    // Used by an off-screen window's SpriteSet if the object is a
+    // sprite.  underPixels holds the pixels of the window's image in
+    // underArea, saved before a floating sprite was drawn over them.
+    boolean sprite = false;
+    boolean spriteDirty;
+    boolean floating;
+    java.awt.Rectangle underArea;
+    int[] underPixels;
+
+    // The window the object is about to be drawn in, if draw() has
+    // queued the change in a window using queued updates and it hasn't
+    // been carried out yet.  Until then, later changes go through the
+    // same queue.
+    private volatile GraphWin queueWin;
+
+    // Screen geometry cache.  geometryVersion is increased every time
+    // the object's geometry changes.  The cached geometry is good as
+    // long as validVersion equals it and the object is still in
+    // screenWin using the same coordinates (as given by screenVersion).
+    // cachedBounds is the result of getScreenBounds() at the time.
+    //
+    // The object may be painted on one thread while it is moved on
+    // another, so the cache is only filled while holding the object's
+    // lock, and is stamped with the geometryVersion read before the
+    // geometry was.  A thread that read the old geometry can then never
+    // mark its result as valid for the new one.  updatingGeometry is
+    // set while the lock's owner is filling the cache, so that the
+    // getScreenBounds() call doing so doesn't try to fill it again.
+    private volatile int geometryVersion = 0;
+    private volatile int validVersion = -1;
+    private GraphWin screenWin = null;
+    private int screenVersion;
+    private java.awt.Rectangle cachedBounds;
+    private boolean updatingGeometry = false;
 
     /**
      * Create a GraphicsObject.
@@ -53,6 +138,22 @@ public abstract class GraphicsObject implements Cloneable {
     protected GraphicsObject() {
     }
 
+    /**
+     * Set the fill color for this object.
+     * 
+     * @param color     A <code>ColorRGB</code> object specifying the fill
+     *                  color.
+     */
+    public void setFill(ColorRGB color) {
+        GraphWin q = commandWindow();
+        if (q != null) {
+            q.queueCommand(new Command(Command.SET_FILL, this, null, 0, 0, color, 0, 0, false));
+        } else {
+            doSetFill(color);
+            styleChanged();
+        }
+    }
+
     /**
      * Set the fill color for this object.
      * <p>
@@ -62,7 +163,7 @@ public abstract class GraphicsObject implements Cloneable {
      * @param color     A <code>ColorRGB</code> object specifying the fill
      *                  color.
      */
-    public void setFill(ColorRGB color) {
+    protected void doSetFill(ColorRGB color) {
     }
 
     /**
@@ -74,7 +175,23 @@ public abstract class GraphicsObject implements Cloneable {
      * @param color     An X11 color name specifying the fill color.
      */
     public final void setFill(String color) {
-        setFill(new ColorRGB(color));
+        setFill(ColorRGB.named(color));
+    }
+
+    /**
+     * Set the outline color for this object.
+     * 
+     * @param color     A <code>ColorRGB</code> object specifying the
+     *                  outline color.
+     */
+    public void setOutline(ColorRGB color) {
+        GraphWin q = commandWindow();
+        if (q != null) {
+            q.queueCommand(new Command(Command.SET_OUTLINE, this, null, 0, 0, color, 0, 0, false));
+        } else {
+            doSetOutline(color);
+            styleChanged();
+        }
     }
 
     /**
@@ -85,7 +202,7 @@ public abstract class GraphicsObject implements Cloneable {
      * @param color     A <code>ColorRGB</code> object specifying the
      *                  outline color.
      */
-    public void setOutline(ColorRGB color) {
+    protected void doSetOutline(ColorRGB color) {
     }
 
     /**
@@ -97,10 +214,24 @@ public abstract class GraphicsObject implements Cloneable {
      * @param color     An X11 color name specifying the outline color.
      */
     public final void setOutline(String color) {
-        setOutline(new ColorRGB(color));
+        setOutline(ColorRGB.named(color));
+    }
+
+    /**
+     * Set the line width to use when drawing this object.
+     * 
+     * @param pixels        The width, in pixels, of the outline.
+     */
+    public void setWidth(int pixels) {
+        GraphWin q = commandWindow();
+        if (q != null) {
+            q.queueCommand(new Command(Command.SET_WIDTH, this, null, 0, 0, null, pixels, 0, false));
+        } else {
+            doSetWidth(pixels);
+            styleChanged();
+        }
     }
 
-    // Derived classes should override this as needed.
     /**
      * Set the line width to use when drawing this object.
      * <p>
@@ -109,7 +240,128 @@ public abstract class GraphicsObject implements Cloneable {
      * 
      * @param pixels        The width, in pixels, of the outline.
      */
-    public void setWidth(int pixels) {
+    protected void doSetWidth(int pixels) {
+    }
+
+    /**
+     * Tells the window (if any) that the object's colors or line width
+     * have changed, so that a saved picture of its layer is brought up to
+     * date and the area the object covers is redrawn.
+     * <p>
+     * This method intentionally has package visibility.
+     */
+    final void styleChanged() {
+        GraphWin w = win;
+        if (w != null) {
+            w.objectChanged(this);
+            w.checkUpdate(bounds());
+        }
+    }
+
+    /**
+     * Put the object in a layer.
+     * <p>
+     * Objects in higher layers are always drawn on top of objects in
+     * lower layers.  Within a layer, objects drawn later are drawn on
+     * top.  If the object is already drawn, it is moved to the top of
+     * its new layer.
+     * 
+     * @param layer     The layer number.  Any number may be used;
+     *                  objects are in layer 0 unless put somewhere else.
+     */
+    public final void setLayer(int layer) {
+        GraphWin q = commandWindow();
+        if (q != null) {
+            q.queueCommand(new Command(Command.SET_LAYER, this, null, 0, 0, null, 0, layer, false));
+            return;
+        }
+        setLayerNow(layer);
+    }
+
+    /**
+     * Puts the object in a layer right away, even if the window is using
+     * queued updates.
+     * <p>
+     * This method intentionally has package visibility.
+     * 
+     * @param layer     The layer number.
+     */
+    final void setLayerNow(int layer) {
+        GraphWin w = win;
+        if (w == null) {
+            this.layer = layer;
+            return;
+        }
+
+        undrawNow();
+        this.layer = layer;
+        drawNow(w);
+    }
+
+    /**
+     * Make the object a sprite, or an ordinary object again.
+     * <p>
+     * Normally, moving an object redraws everything in the area it
+     * covered before and after the move.  A sprite is moved by putting
+     * back the pixels it covered, saved when it was drawn, and drawing it
+     * again in its new place, so moving a few small sprites over a
+     * complicated scene is cheap.  This only works while nothing is drawn
+     * on top of the sprite; otherwise the sprite is simply drawn like any
+     * other object.
+     * <p>
+     * <b>Sprites need a window that keeps its own picture</b>: an
+     * off-screen window, or an on-screen window with the render thread
+     * turned on (see <code>GraphWin.setRenderThread()</code>).  In an
+     * on-screen window drawn by Swing's event thread, there are no saved
+     * pixels to put back, so a sprite is drawn like any other object and
+     * moving it is no faster.
+     * 
+     * @param sprite    <code>true</code> to make the object a sprite,
+     *                  and <code>false</code> to make it an ordinary
+     *                  object.
+     */
+    public final void setSprite(boolean sprite) {
+        GraphWin q = commandWindow();
+        if (q != null) {
+            q.queueCommand(new Command(Command.SET_SPRITE, this, null, 0, 0, null, 0, 0, sprite));
+            return;
+        }
+        setSpriteNow(sprite);
+    }
+
+    /**
+     * Makes the object a sprite, or not, right away, even if the window
+     * is using queued updates.
+     * <p>
+     * This method intentionally has package visibility.
+     * 
+     * @param sprite    <code>true</code> to make the object a sprite.
+     */
+    final void setSpriteNow(boolean sprite) {
+        if (this.sprite == sprite)
+            return;
+        this.sprite = sprite;
+        GraphWin w = win;
+        if (w != null)
+            w.spriteChanged(this);
+    }
+
+    /**
+     * Returns an indicator of whether the object is a sprite.
+     * 
+     * @return          <code>true</code> if the object is a sprite.
+     */
+    public boolean isSprite() {
+        return sprite;
+    }
+
+    /**
+     * Returns the layer the object is in.
+     * 
+     * @return          The layer number.
+     */
+    public int getLayer() {
+        return layer;
     }
 
     /**
@@ -124,6 +376,154 @@ public abstract class GraphicsObject implements Cloneable {
      */
     protected abstract void doDraw(Graphics g);
 
+    /**
+     * Returns the area of the window covered by this object, in screen
+     * coordinates.
+     * <p>
+     * This is used to limit redrawing to just the part of the window
+     * affected when the object is moved or undrawn, and to skip objects
+     * that don't need to be redrawn.  The bounds must include everything
+     * <code>doDraw()</code> might touch.  Derived classes should override
+     * this whenever possible; the default returns <code>null</code>,
+     * which means the bounds are unknown.
+     * <p>
+     * This is only called while the object is drawn in a window.  The
+     * object may be undrawn by another thread while this is running, so
+     * it must use <code>win</code> rather than the field of the same
+     * name.
+     * 
+     * @param win       The window the object is drawn in.
+     * @return          The screen area covered by this object, or
+     *                  <code>null</code> if it is unknown.
+     */
+    protected java.awt.Rectangle getScreenBounds(GraphWin win) {
+        return null;
+    }
+
+    /**
+     * Computes and saves the object's screen coordinates.
+     * <p>
+     * Derived classes that keep their screen coordinates around override
+     * this to recompute them from the user coordinates.  It is called by
+     * <code>checkScreenGeometry()</code> whenever the saved coordinates
+     * are out of date.  The default does nothing.
+     * <p>
+     * As with <code>getScreenBounds()</code>, the coordinates must be
+     * computed using <code>win</code>, not the field of the same name.
+     * 
+     * @param win       The window the object is drawn in.
+     */
+    protected void updateScreenGeometry(GraphWin win) {
+    }
+
+    /**
+     * Makes sure the screen coordinates saved by
+     * <code>updateScreenGeometry()</code> are up to date.
+     * <p>
+     * Derived classes call this before using their saved screen
+     * coordinates.  It does nothing unless the object has moved or the
+     * window's coordinates have changed since the last call.
+     */
+    protected final void checkScreenGeometry() {
+        // The object may be undrawn by the program's thread while the
+        // window is being painted, so win is only read once, and passed
+        // on to the derived class.  If it has just been undrawn, the
+        // saved geometry is left as it is.
+        GraphWin w = win;
+        if (w == null || isScreenGeometryValid(w))
+            return;
+
+        synchronized (this) {
+            if (updatingGeometry || isScreenGeometryValid(w))
+                return;
+
+            int version = geometryVersion;
+            int coords = w.getCoordsVersion();
+            validVersion = -1;
+            updatingGeometry = true;
+            try {
+                updateScreenGeometry(w);
+                screenWin = w;
+                screenVersion = coords;
+                cachedBounds = getScreenBounds(w);
+            } finally {
+                updatingGeometry = false;
+            }
+            validVersion = version;
+        }
+    }
+
+    // Returns true if the cached geometry is up to date for w.
+    private boolean isScreenGeometryValid(GraphWin w) {
+        return validVersion == geometryVersion && screenWin == w
+            && screenVersion == w.getCoordsVersion();
+    }
+
+    /**
+     * Gets the object ready to be drawn.
+     * <p>
+     * Large off-screen windows may be drawn by several threads at once,
+     * each drawing a different part of the window, so the same object's
+     * <code>doDraw()</code> may be called from several threads at the
+     * same time.  Before that happens, this is called (from a single
+     * thread), and must do any work that <code>doDraw()</code> would
+     * otherwise do to bring saved state up to date, so that
+     * <code>doDraw()</code> then only reads the object.
+     * <p>
+     * The default brings the saved screen coordinates up to date.
+     * Derived classes that save anything else for drawing override this.
+     */
+    protected void prepareToDraw() {
+        checkScreenGeometry();
+    }
+
+    /**
+     * Tells the object that its saved screen coordinates are out of date.
+     * <p>
+     * This is done automatically when the object moves.  Derived classes
+     * only need to call this if they change their geometry some other way.
+     */
+    protected final void invalidateScreenGeometry() {
+        synchronized (this) {
+            geometryVersion++;
+        }
+    }
+
+    /**
+     * Returns the object's screen bounds, using the saved value if the
+     * screen coordinates are up to date.
+     * <p>
+     * The returned rectangle must not be modified.  This method
+     * intentionally has package visibility.
+     * 
+     * @return          The screen area covered by this object, or
+     *                  <code>null</code> if it is unknown.
+     */
+    final java.awt.Rectangle bounds() {
+        checkScreenGeometry();
+        return cachedBounds;
+    }
+
+    /**
+     * Returns the smallest screen rectangle containing the two given
+     * screen points.
+     * <p>
+     * Both points are included, so this is useful to derived classes when
+     * implementing <code>getScreenBounds()</code>.
+     * 
+     * @param x1        The x coordinate of one corner.
+     * @param y1        The y coordinate of one corner.
+     * @param x2        The x coordinate of the opposite corner.
+     * @param y2        The y coordinate of the opposite corner.
+     * @return          A rectangle containing both points.
+     */
+    protected static java.awt.Rectangle screenBounds(int x1, int y1, int x2, int y2) {
+        int x = Math.min(x1, x2);
+        int y = Math.min(y1, y2);
+        return new java.awt.Rectangle(x, y,
+            Math.abs(x2 - x1) + 1, Math.abs(y2 - y1) + 1);
+    }
+
     /**
      * Draw the object.
      * <p>
@@ -135,11 +535,33 @@ public abstract class GraphicsObject implements Cloneable {
      *                  object on.
      */
     public final void draw(GraphWin win) {
-        if (this.win != null) return; // Throw an exception?
+        if (win.isQueuedUpdates()) {
+            queueWin = win;
+            win.queueCommand(new Command(Command.DRAW, this, win, 0, 0, null, 0, 0, false));
+            return;
+        }
+        drawNow(win);
+    }
+
+    /**
+     * Draws the object right away, even if the window is using
+     * queued updates.
+     * <p>
+     * This method intentionally has package visibility.
+     * 
+     * @param win       The window to draw this object on.
+     */
+    final void drawNow(GraphWin win) {
+        if (this.win != null) {
+            queueWin = null;
+            return; // Throw an exception?
+        }
+        // Set win before clearing queueWin, so that another thread
+        // calling commandWindow() always sees one of them.
         this.win = win;
-        GraphWin.GraphicsPanel panel = this.win.getGraphicsPanel();
-        panel.addObject(this);
-        doDraw(panel.getGraphics());
+        queueWin = null;
+        win.addObject(this);
+        win.drawObject(this);
     }
 
     /**
@@ -162,29 +584,86 @@ public abstract class GraphicsObject implements Cloneable {
      * Move the object.
      * <p>
      * Note that the move is specified as a delta, not an absolute
-     * position.  Calling this function will always force a redraw
-     * of the entire window in order to maintain the z-ordering of
-     * objects.
+     * position.  Calling this function forces a redraw of the area
+     * the object covered before and after the move, including any
+     * other objects in that area, in order to maintain the z-ordering
+     * of objects.
      * 
      * @param dx        The x distance to move.
      * @param dy        The y distance to move.
      */
     public final void move(double dx, double dy) {
+        GraphWin q = commandWindow();
+        if (q != null) {
+            q.queueCommand(new Command(Command.MOVE, this, null, dx, dy, null, 0, 0, false));
+            return;
+        }
+        moveNow(dx, dy);
+    }
+
+    /**
+     * Moves the object right away, even if the window is using queued
+     * updates.
+     * <p>
+     * This method intentionally has package visibility.
+     * 
+     * @param dx        The x distance to move.
+     * @param dy        The y distance to move.
+     */
+    final void moveNow(double dx, double dy) {
+        if (win == null) {
+            doMove(dx, dy);
+            invalidateScreenGeometry();
+            return;
+        }
+
+        java.awt.Rectangle before = bounds();
         doMove(dx, dy);
-        win.checkUpdate();
+        invalidateScreenGeometry();
+        win.objectMoved(this, before);
     }
 
     /**
      * Undraw the object.
      * <p>
-     * Calling this function will always force a redraw of the
-     * entire window in order to maintain the z-ordering of
+     * Calling this function forces a redraw of the area the
+     * object covered in order to maintain the z-ordering of
      * objects.
      */
     public final void undraw() {
+        GraphWin q = commandWindow();
+        if (q != null) {
+            q.queueCommand(new Command(Command.UNDRAW, this, null, 0, 0, null, 0, 0, false));
+            return;
+        }
+        undrawNow();
+    }
+
+    /**
+     * Undraws the object right away, even if the window is using
+     * queued updates.
+     * <p>
+     * This method intentionally has package visibility.
+     */
+    final void undrawNow() {
         if (win == null) return;
-        win.getGraphicsPanel().removeObject(this);
-        win.checkUpdate();
+        java.awt.Rectangle bounds = bounds();
+        win.removeObject(this);
+        win.checkUpdate(bounds);
         win = null;
     }
+
+    /**
+     * Returns the window whose command queue changes to this object
+     * should go through, or <code>null</code> if they should be made
+     * right away.  That is the window the object is drawn in, or about
+     * to be drawn in, if it is using queued updates.
+     */
+    private GraphWin commandWindow() {
+        // Read queueWin first: drawNow() sets win before clearing it.
+        GraphWin q = queueWin;
+        if (q == null)
+            q = win;
+        return (q != null && q.isQueuedUpdates()) ? q : null;
+    }
 }
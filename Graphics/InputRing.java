@@ -0,0 +1,102 @@
+package Graphics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * A fixed-size queue of input events, written by the Swing event
+ * thread and read by the program.
+ * <p>
+ * This is a ring buffer that doesn't use any locks.  Only one thread (the
+ * Swing event thread) may add events, but any number of threads may take
+ * them.  If the program falls so far behind that the buffer fills up,
+ * the oldest event is thrown away to make room for the new one.
+ * <p>
+ * <code>head</code> and <code>tail</code> count events from the time the
+ * buffer was created, and only ever increase.  The events still in the
+ * buffer are those numbered from <code>head</code> up to (but not
+ * including) <code>tail</code>, and event number <code>n</code> is kept
+ * in slot <code>n % capacity</code>.
+ * <p>
+ * This class intentionally has package visibility.
+ */
+class InputRing {
+
+    private final AtomicReferenceArray<WindowInput> slots;
+    private final int mask;
+    private final AtomicLong head = new AtomicLong();
+    private final AtomicLong tail = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+
+    /**
+     * Creates an empty buffer.
+     * 
+     * @param capacity      The number of events the buffer can hold.
+     *                      This must be a power of two.
+     */
+    InputRing(int capacity) {
+        slots = new AtomicReferenceArray<>(capacity);
+        mask = capacity - 1;
+    }
+
+    /**
+     * Adds an event, throwing away the oldest event if the buffer
+     * is full.
+     * <p>
+     * This must only be called from one thread.
+     * 
+     * @param event     The event to add.
+     */
+    void offer(WindowInput event) {
+        long t = tail.get();
+
+        // Make sure no reader can still take the event we're about
+        // to overwrite.
+        long h;
+        while (t - (h = head.get()) > mask) {
+            if (head.compareAndSet(h, h + 1))
+                dropped.incrementAndGet();
+        }
+
+        slots.set((int)(t & mask), event);
+        tail.set(t + 1);
+    }
+
+    /**
+     * Takes the oldest event from the buffer.
+     * 
+     * @return          The oldest event, or <code>null</code> if the
+     *                  buffer is empty.
+     */
+    WindowInput poll() {
+        while (true) {
+            long h = head.get();
+            if (h >= tail.get()) return null;
+
+            // If the slot is overwritten after we read it, head will have
+            // moved on and the compareAndSet will fail.
+            WindowInput event = slots.get((int)(h & mask));
+            if (head.compareAndSet(h, h + 1)) return event;
+        }
+    }
+
+    /**
+     * Returns an indicator of whether the buffer is empty.
+     * 
+     * @return          <code>true</code> if there are no events
+     *                  in the buffer.
+     */
+    boolean isEmpty() {
+        return head.get() >= tail.get();
+    }
+
+    /**
+     * Returns the number of events thrown away because the buffer
+     * was full.
+     * 
+     * @return          The number of events lost.
+     */
+    long getDropped() {
+        return dropped.get();
+    }
+}
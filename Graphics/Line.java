@@ -6,24 +6,36 @@ import java.awt.Graphics;
  */
 public class Line extends GraphicsObject {
 
-    private Point pt1;
-    private Point pt2;
+    // The endpoints are stored as plain coordinates rather
+    // than as (drawable) Point objects.
+    private double x1;
+    private double y1;
+    private double x2;
+    private double y2;
     private ColorRGB color;
 
+    // Screen coordinates, computed by updateScreenGeometry().
+    private int screenX1;
+    private int screenY1;
+    private int screenX2;
+    private int screenY2;
+
     /**
      * Initializes a new <code>Line</code> object given two points.
      * <p>
      * The <code>Point</code> objects are not stored directly;
-     * they are copied instead.  The original objects may be
-     * changed without affecting the <code>Line</code>.
+     * their coordinates are copied instead.  The original objects
+     * may be changed without affecting the <code>Line</code>.
      * 
      * @param p1        The first endpoint
      * @param p2        The other endpoint
      */
     public Line(Point p1, Point p2) {
-        pt1 = new Point(p1);
-        pt2 = new Point(p2);
-        color = new ColorRGB(0, 0, 0);
+        x1 = p1.getX();
+        y1 = p1.getY();
+        x2 = p2.getX();
+        y2 = p2.getY();
+        color = ColorRGB.of(0, 0, 0);
     }
 
     /**
@@ -35,13 +47,15 @@ public class Line extends GraphicsObject {
      * @param other     The Line object to copy
      */
     public Line(Line other) {
-        this.pt1 = new Point(other.pt2);
-        this.pt2 = new Point(other.pt2);
+        this.x1 = other.x1;
+        this.y1 = other.y1;
+        this.x2 = other.x2;
+        this.y2 = other.y2;
         this.color = other.color;
     }
 
     @Override
-    public void setOutline(ColorRGB color) {
+    protected void doSetOutline(ColorRGB color) {
         this.color = color;
     }
 
@@ -66,8 +80,8 @@ public class Line extends GraphicsObject {
      *              the midpoint of the line.
      */
     public Point getCenter() {
-        double x = (pt1.getX() + pt2.getX()) / 2.0;
-        double y = (pt1.getY() + pt2.getY()) / 2.0;
+        double x = (x1 + x2) / 2.0;
+        double y = (y1 + y2) / 2.0;
         return new Point(x, y);
     }
 
@@ -77,7 +91,7 @@ public class Line extends GraphicsObject {
      * @return      The first endpoint of the line.
      */
     public Point getP1() {
-        return new Point(pt1);
+        return new Point(x1, y1);
     }
 
     /**
@@ -86,21 +100,36 @@ public class Line extends GraphicsObject {
      * @return      The second endpoint of the line.
      */
     public Point getP2() {
-        return new Point(pt2);
+        return new Point(x2, y2);
+    }
+
+    @Override
+    protected void updateScreenGeometry(GraphWin win) {
+        screenX1 = win.toScreenX(x1);
+        screenY1 = win.toScreenY(y1);
+        screenX2 = win.toScreenX(x2);
+        screenY2 = win.toScreenY(y2);
     }
 
     @Override
     protected void doDraw(Graphics g) {
-        java.awt.Point p1 = win.pointXYtoScreen(pt1);
-        java.awt.Point p2 = win.pointXYtoScreen(pt2);
+        checkScreenGeometry();
         g.setColor(color.getColor());
-        g.drawLine((int)p1.getX(), (int)p1.getY(), (int)p2.getX(), (int)p2.getY());
+        g.drawLine(screenX1, screenY1, screenX2, screenY2);
+    }
+
+    @Override
+    protected java.awt.Rectangle getScreenBounds(GraphWin win) {
+        checkScreenGeometry();
+        return screenBounds(screenX1, screenY1, screenX2, screenY2);
     }
 
     @Override
     protected void doMove(double dx, double dy) {
-        pt1.doMove(dx, dy);
-        pt2.doMove(dx, dy);
+        x1 += dx;
+        y1 += dy;
+        x2 += dx;
+        y2 += dy;
     }
     
     @Override
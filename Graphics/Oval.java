@@ -7,26 +7,38 @@ import java.awt.Graphics;
  */
 public class Oval extends GraphicsObject {
     
-    private Point p1;
-    private Point p2;
+    // The defining points are stored as plain coordinates
+    // rather than as (drawable) Point objects.
+    private double x1;
+    private double y1;
+    private double x2;
+    private double y2;
     private ColorRGB color;
     private ColorRGB fillColor;
 
+    // Screen bounding box, computed by updateScreenGeometry().
+    private int screenX;
+    private int screenY;
+    private int screenWidth;
+    private int screenHeight;
+
     /**
      * Initializes a new <code>Oval</code> object given
      * two points.
      * <p>
-     * The Point objects are not stored directly; they are
-     * copied instead.  The original objects may be changed
-     * without affecting the <code>Oval</code>.
+     * The Point objects are not stored directly; their
+     * coordinates are copied instead.  The original objects
+     * may be changed without affecting the <code>Oval</code>.
      * 
      * @param p1    One point defining the oval
      * @param p2    The other point defining the oval
      */
     public Oval(Point p1, Point p2) {
-        this.p1 = new Point(p1);
-        this.p2 = new Point(p2);
-        this.color = new ColorRGB(0, 0, 0);
+        this.x1 = p1.getX();
+        this.y1 = p1.getY();
+        this.x2 = p2.getX();
+        this.y2 = p2.getY();
+        this.color = ColorRGB.of(0, 0, 0);
         this.fillColor = null;
     }
 
@@ -39,19 +51,21 @@ public class Oval extends GraphicsObject {
      * @param other     The Oval object to copy
      */
     public Oval(Oval other) {
-        this.p1 = new Point(other.p1);
-        this.p2 = new Point(other.p2);
+        this.x1 = other.x1;
+        this.y1 = other.y1;
+        this.x2 = other.x2;
+        this.y2 = other.y2;
         this.color = other.color;
         this.fillColor = other.fillColor;
     }
 
     @Override
-    public void setOutline(ColorRGB color) {
+    protected void doSetOutline(ColorRGB color) {
         this.color = color;
     }
 
     @Override
-    public void setFill(ColorRGB color) {
+    protected void doSetFill(ColorRGB color) {
         this.fillColor = color;
     }
 
@@ -62,7 +76,7 @@ public class Oval extends GraphicsObject {
      *              the center of the circle.
      */
     public Point getCenter() {
-        return Point.midPoint(p1, p2);
+        return new Point((x1 + x2) / 2.0, (y1 + y2) / 2.0);
     }
 
     /**
@@ -72,7 +86,7 @@ public class Oval extends GraphicsObject {
      * @return      A clone of p1 as given to the constructor.
      */
     public Point getP1() {
-        return new Point(p1);
+        return new Point(x1, y1);
     }
 
     /**
@@ -82,50 +96,55 @@ public class Oval extends GraphicsObject {
      * @return      A clone of p2 as given to the constructor.
      */
     public Point getP2() {
-        return new Point(p2);
+        return new Point(x2, y2);
     }
 
     @Override
-    protected void doDraw(Graphics g) {
-        java.awt.Point pi1 = win.pointXYtoScreen(this.p1);
-        java.awt.Point pi2 = win.pointXYtoScreen(this.p2);
-        int width  = pi2.x - pi1.x;
-        int height = pi2.y - pi1.y;
+    protected void updateScreenGeometry(GraphWin win) {
+        int sx1 = win.toScreenX(x1);
+        int sy1 = win.toScreenY(y1);
+        int sx2 = win.toScreenX(x2);
+        int sy2 = win.toScreenY(y2);
 
         // AWT requires that the width and height be
         // positive.  We could do that in the ctor, but
         // we need to keep the original p1 and p2 around
         // so we can return them via the getP1() and
         // getP2() methods.
-        if (width < 0) {
-            width = -width;
-            int t = pi1.x;
-            pi1.x = pi2.x;
-            pi2.x = t;
-        }
+        screenX = Math.min(sx1, sx2);
+        screenY = Math.min(sy1, sy2);
+        screenWidth  = Math.abs(sx2 - sx1);
+        screenHeight = Math.abs(sy2 - sy1);
+    }
 
-        if (height < 0) {
-            height = -height;
-            int t = pi1.y;
-            pi1.y = pi2.y;
-            pi2.y = t;
-        }
+    @Override
+    protected void doDraw(Graphics g) {
+        checkScreenGeometry();
 
         // Draw the interior, if necessary.
         if (this.fillColor != null) {
             g.setColor(fillColor.getColor());
-            g.fillOval(pi1.x, pi1.y, width, height);
+            g.fillOval(screenX, screenY, screenWidth, screenHeight);
         }
 
         // Draw the outline.
         g.setColor(color.getColor());
-        g.drawOval(pi1.x, pi1.y, width, height);
+        g.drawOval(screenX, screenY, screenWidth, screenHeight);
+    }
+
+    @Override
+    protected java.awt.Rectangle getScreenBounds(GraphWin win) {
+        checkScreenGeometry();
+        return screenBounds(screenX, screenY,
+            screenX + screenWidth, screenY + screenHeight);
     }
 
     @Override
     protected void doMove(double dx, double dy) {
-        p1.doMove(dx, dy);
-        p2.doMove(dx, dy);
+        x1 += dx;
+        y1 += dy;
+        x2 += dx;
+        y2 += dy;
     }
     
     @Override
@@ -10,7 +10,13 @@ import java.awt.Graphics;
  * <p>
  * This class serves two purposes; it is both a drawable
  * object, and is also used extensively throughout the
- * <code>Graphics</code> package to represent points.
+ * <code>Graphics</code> API to represent points.
+ * <p>
+ * Since a drawable object carries quite a bit more than
+ * its coordinates, the other shapes don't store
+ * <code>Point</code>s.  They copy the coordinates out of
+ * the <code>Point</code>s given to them, and create new
+ * <code>Point</code>s only when asked for one.
  */
 public class Point extends GraphicsObject {
     
@@ -18,6 +24,10 @@ public class Point extends GraphicsObject {
     private double y;
     private ColorRGB color;
 
+    // Screen coordinates, computed by updateScreenGeometry().
+    private int screenX;
+    private int screenY;
+
     /**
      * Initializes a new <code>Point</code> object.
      * 
@@ -27,7 +37,7 @@ public class Point extends GraphicsObject {
     public Point(double x, double y) {
         this.x = x;
         this.y = y;
-        color = new ColorRGB(0, 0, 0);
+        color = ColorRGB.of(0, 0, 0);
     }
 
     /**
@@ -42,7 +52,7 @@ public class Point extends GraphicsObject {
     }
 
     @Override
-    public void setOutline(ColorRGB color) {
+    protected void doSetOutline(ColorRGB color) {
         this.color = color;
     }
 
@@ -64,11 +74,23 @@ public class Point extends GraphicsObject {
         return y;
     }
 
+    @Override
+    protected void updateScreenGeometry(GraphWin win) {
+        screenX = win.toScreenX(x);
+        screenY = win.toScreenY(y);
+    }
+
     @Override
     protected void doDraw(Graphics g) {
-        java.awt.Point pt = win.pointXYtoScreen(this);
+        checkScreenGeometry();
         g.setColor(color.getColor());
-        g.drawRect((int)pt.x, (int)pt.y, 1, 1);
+        g.drawRect(screenX, screenY, 1, 1);
+    }
+
+    @Override
+    protected java.awt.Rectangle getScreenBounds(GraphWin win) {
+        checkScreenGeometry();
+        return screenBounds(screenX, screenY, screenX + 1, screenY + 1);
     }
 
     @Override
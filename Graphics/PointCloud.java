@@ -0,0 +1,446 @@
+package Graphics;
+
+import java.awt.Graphics;
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
+import java.util.Arrays;
+
+/**
+ * PointCloud is a drawable collection of points, drawn as a single
+ * object.
+ * <p>
+ * Drawing a large number of <code>Point</code> objects is slow, since
+ * each one is a separate object in the display list and is drawn with
+ * its own call to AWT.  A <code>PointCloud</code> keeps its points in
+ * arrays of plain coordinates, and draws them by setting pixels
+ * directly in an image, which is then drawn in one call.  Each point
+ * looks the same as a <code>Point</code> would.
+ * <p>
+ * Points can be added to the cloud at any time, even while it is drawn,
+ * so it can be used to plot data as it arrives.  All the points may also
+ * be replaced at once with <code>setPoints()</code>.
+ * <p>
+ * Every point is drawn in the color given to <code>setOutline()</code>,
+ * unless it was given its own color when it was added.
+ * <p>
+ * This is NOT part of Zelle's graphics library.
+ * <p>
+ * Implementation notes:
+ * <p>
+ * The image only covers the part of the window containing points.  It is
+ * kept from one redraw to the next, and points added since the last
+ * redraw are simply added to it, unless they extend the cloud past the
+ * area the image covers.  Moving the cloud, or changing the window's
+ * coordinates, causes the whole image to be redrawn.
+ */
+public class PointCloud extends GraphicsObject {
+
+    // The points.  Only the first count entries are used; the arrays
+    // grow as needed.  rgb is null until some point is given its own
+    // color; an entry of 0 means the point uses the default color.
+    // The actual position of point i is (xs[i] + tx, ys[i] + ty).
+    private double[] xs;
+    private double[] ys;
+    private int[] rgb = null;
+    private int count = 0;
+    private double tx = 0.0;
+    private double ty = 0.0;
+    private ColorRGB color = ColorRGB.of(0, 0, 0);
+
+    // The bounding box of the points (not including tx and ty).
+    private double minX, maxX, minY, maxY;
+
+    // The image the points are drawn into, and the screen location of
+    // its upper-left corner.  The first rasterCount points have been
+    // drawn into it, unless rasterValid is false.
+    private BufferedImage raster = null;
+    private int[] pixels;
+    private int rasterX;
+    private int rasterY;
+    private int rasterCount = 0;
+    private boolean rasterValid = false;
+
+    // Whether there is anything to draw; set by prepareToDraw().
+    private boolean visible = false;
+
+    /**
+     * Initializes a new, empty <code>PointCloud</code>.
+     */
+    public PointCloud() {
+        xs = new double[16];
+        ys = new double[16];
+    }
+
+    /**
+     * Initializes a new <code>PointCloud</code> given the coordinates
+     * of its points.
+     * <p>
+     * The arrays are copied; they may be changed without affecting the
+     * <code>PointCloud</code>.
+     *
+     * @param xs    The x coordinates of the points.
+     * @param ys    The y coordinates of the points.  This must be
+     *              the same length as <code>xs</code>.
+     */
+    public PointCloud(double[] xs, double[] ys) {
+        this();
+        addAll(xs, ys, null);
+    }
+
+    /**
+     * Creates a copy of the given <code>PointCloud</code>.
+     * <p>
+     * The new <code>PointCloud</code> object does not get the drawn
+     * status of the original point cloud.
+     *
+     * @param other     The PointCloud object to copy
+     */
+    public PointCloud(PointCloud other) {
+        this.count = other.count;
+        this.xs = Arrays.copyOf(other.xs, Math.max(count, 16));
+        this.ys = Arrays.copyOf(other.ys, Math.max(count, 16));
+        if (other.rgb != null)
+            this.rgb = Arrays.copyOf(other.rgb, xs.length);
+        this.tx = other.tx;
+        this.ty = other.ty;
+        this.minX = other.minX;
+        this.maxX = other.maxX;
+        this.minY = other.minY;
+        this.maxY = other.maxY;
+        this.color = other.color;
+    }
+
+    @Override
+    protected void doSetOutline(ColorRGB color) {
+        this.color = color;
+        rasterValid = false;
+    }
+
+    /**
+     * Returns the number of points in the cloud.
+     *
+     * @return      The number of points.
+     */
+    public int getPointCount() {
+        return count;
+    }
+
+    /**
+     * Returns the x coordinate of one point.
+     *
+     * @param i     The index of the point.
+     * @return      The x coordinate of point <code>i</code>.
+     */
+    public double getX(int i) {
+        if (i >= count) throw new IndexOutOfBoundsException(i);
+        return xs[i] + tx;
+    }
+
+    /**
+     * Returns the y coordinate of one point.
+     *
+     * @param i     The index of the point.
+     * @return      The y coordinate of point <code>i</code>.
+     */
+    public double getY(int i) {
+        if (i >= count) throw new IndexOutOfBoundsException(i);
+        return ys[i] + ty;
+    }
+
+    /**
+     * Adds a point to the cloud, using the default color.
+     *
+     * @param x     The x coordinate of the point.
+     * @param y     The y coordinate of the point.
+     */
+    public void add(double x, double y) {
+        add(x, y, null);
+    }
+
+    /**
+     * Adds a point to the cloud, with its own color.
+     *
+     * @param x     The x coordinate of the point.
+     * @param y     The y coordinate of the point.
+     * @param color The color of the point, or <code>null</code> to use
+     *              the default color.
+     */
+    public void add(double x, double y, ColorRGB color) {
+        java.awt.Rectangle before = win == null ? null : bounds();
+        int first = count;
+        ensureCapacity(count + 1, color != null);
+        append(x, y, color == null ? 0 : argb(color.getColor().getRGB()));
+        changed(before, first);
+    }
+
+    /**
+     * Adds a number of points to the cloud, using the default color.
+     *
+     * @param xs    The x coordinates of the points.
+     * @param ys    The y coordinates of the points.  This must be
+     *              the same length as <code>xs</code>.
+     */
+    public void addAll(double[] xs, double[] ys) {
+        addAll(xs, ys, null);
+    }
+
+    /**
+     * Adds a number of points to the cloud, each with its own color.
+     *
+     * @param xs    The x coordinates of the points.
+     * @param ys    The y coordinates of the points.  This must be
+     *              the same length as <code>xs</code>.
+     * @param rgb   The colors of the points, as packed RGB values (as
+     *              in <code>0xff8000</code>), or <code>null</code> to
+     *              use the default color for all of them.  If not
+     *              <code>null</code>, this must be the same length as
+     *              <code>xs</code>.
+     */
+    public void addAll(double[] xs, double[] ys, int[] rgb) {
+        checkLengths(xs, ys, rgb);
+        java.awt.Rectangle before = win == null ? null : bounds();
+        int first = count;
+        ensureCapacity(count + xs.length, rgb != null);
+        for (int i = 0; i < xs.length; i++)
+            append(xs[i], ys[i], rgb == null ? 0 : argb(rgb[i]));
+        changed(before, first);
+    }
+
+    /**
+     * Replaces all the points in the cloud, using the default color.
+     *
+     * @param xs    The x coordinates of the points.
+     * @param ys    The y coordinates of the points.  This must be
+     *              the same length as <code>xs</code>.
+     */
+    public void setPoints(double[] xs, double[] ys) {
+        setPoints(xs, ys, null);
+    }
+
+    /**
+     * Replaces all the points in the cloud, each with its own color.
+     *
+     * @param xs    The x coordinates of the points.
+     * @param ys    The y coordinates of the points.  This must be
+     *              the same length as <code>xs</code>.
+     * @param rgb   The colors of the points, as packed RGB values, or
+     *              <code>null</code> to use the default color for all
+     *              of them.
+     */
+    public void setPoints(double[] xs, double[] ys, int[] rgb) {
+        checkLengths(xs, ys, rgb);
+        java.awt.Rectangle before = win == null ? null : bounds();
+        reset();
+        ensureCapacity(xs.length, rgb != null);
+        for (int i = 0; i < xs.length; i++)
+            append(xs[i], ys[i], rgb == null ? 0 : argb(rgb[i]));
+        changed(before, -1);
+    }
+
+    /**
+     * Removes all the points from the cloud.
+     */
+    public void clear() {
+        java.awt.Rectangle before = win == null ? null : bounds();
+        reset();
+        changed(before, -1);
+    }
+
+    @Override
+    protected void doDraw(Graphics g) {
+        prepareToDraw();
+        if (visible)
+            g.drawImage(raster, rasterX, rasterY, null);
+    }
+
+    /**
+     * Brings the image of the points up to date.
+     */
+    @Override
+    protected void prepareToDraw() {
+        // The cloud may be undrawn while the window is being painted,
+        // so win is only read once.
+        GraphWin w = win;
+        if (w == null) return;
+
+        checkScreenGeometry();
+        int n = Math.min(count, xs.length);
+        java.awt.Rectangle bounds = bounds();
+        java.awt.Rectangle area = (n == 0 || bounds == null) ? null : bounds.intersection(
+            new java.awt.Rectangle(0, 0, w.getWidth(), w.getHeight()));
+        if (area == null || area.isEmpty()) {
+            visible = false;
+            return;
+        }
+
+        if (!rasterValid || area.x != rasterX || area.y != rasterY
+                || area.width != raster.getWidth() || area.height != raster.getHeight()) {
+            if (raster == null || area.width != raster.getWidth() || area.height != raster.getHeight()) {
+                raster = new BufferedImage(area.width, area.height, BufferedImage.TYPE_INT_ARGB);
+                pixels = ((DataBufferInt) raster.getRaster().getDataBuffer()).getData();
+            } else {
+                Arrays.fill(pixels, 0);
+            }
+            rasterX = area.x;
+            rasterY = area.y;
+            rasterCount = 0;
+            rasterValid = true;
+        }
+
+        if (rasterCount < n) {
+            rasterize(w, rasterCount, n);
+            rasterCount = n;
+        }
+        visible = true;
+    }
+
+    // Sets the pixels for points first through last-1 in the raster.
+    private void rasterize(GraphWin win, int first, int last) {
+        int w = raster.getWidth();
+        int h = raster.getHeight();
+        int defaultColor = argb(color.getColor().getRGB());
+        double[] xs = this.xs;
+        double[] ys = this.ys;
+        int[] rgb = this.rgb;
+
+        for (int i = first; i < last; i++) {
+            int x = win.toScreenX(xs[i] + tx) - rasterX;
+            int y = win.toScreenY(ys[i] + ty) - rasterY;
+            int c = (rgb == null || rgb[i] == 0) ? defaultColor : rgb[i];
+
+            // Each point covers the same two by two square of pixels
+            // that a Point does.
+            for (int py = y; py <= y + 1; py++) {
+                if (py < 0 || py >= h) continue;
+                int row = py * w;
+                if (x >= 0 && x < w) pixels[row + x] = c;
+                if (x + 1 >= 0 && x + 1 < w) pixels[row + x + 1] = c;
+            }
+        }
+    }
+
+    @Override
+    protected java.awt.Rectangle getScreenBounds(GraphWin win) {
+        if (count == 0) return new java.awt.Rectangle();
+
+        int x1 = win.toScreenX(minX + tx);
+        int y1 = win.toScreenY(minY + ty);
+        int x2 = win.toScreenX(maxX + tx);
+        int y2 = win.toScreenY(maxY + ty);
+        return screenBounds(Math.min(x1, x2), Math.min(y1, y2),
+            Math.max(x1, x2) + 1, Math.max(y1, y2) + 1);
+    }
+
+    @Override
+    protected void updateScreenGeometry(GraphWin win) {
+        rasterValid = false;
+    }
+
+    @Override
+    protected void doMove(double dx, double dy) {
+        tx += dx;
+        ty += dy;
+    }
+
+    @Override
+    public Object clone() {
+        return new PointCloud(this);
+    }
+
+    // Makes room for at least capacity points, and makes sure there
+    // is an array of colors if one is needed.
+    private void ensureCapacity(int capacity, boolean needColors) {
+        if (capacity > xs.length) {
+            int newLength = Math.max(capacity, xs.length + xs.length / 2);
+            xs = Arrays.copyOf(xs, newLength);
+            ys = Arrays.copyOf(ys, newLength);
+            if (rgb != null)
+                rgb = Arrays.copyOf(rgb, newLength);
+        }
+        if (needColors && rgb == null)
+            rgb = new int[xs.length];
+    }
+
+    // Adds one point, which must already have room, and extends the
+    // bounding box to include it.  The point's coordinates are stored
+    // relative to the current translation.
+    private void append(double x, double y, int c) {
+        x -= tx;
+        y -= ty;
+        if (count == 0) {
+            minX = maxX = x;
+            minY = maxY = y;
+        } else {
+            minX = Math.min(minX, x);
+            maxX = Math.max(maxX, x);
+            minY = Math.min(minY, y);
+            maxY = Math.max(maxY, y);
+        }
+        xs[count] = x;
+        ys[count] = y;
+        if (rgb != null)
+            rgb[count] = c;
+        count++;
+    }
+
+    // Removes all the points.
+    private void reset() {
+        count = 0;
+        tx = 0.0;
+        ty = 0.0;
+        rgb = null;
+        rasterValid = false;
+    }
+
+    // Redraws the cloud, if it is drawn, after points have been added
+    // or replaced.  first is the index of the first point added, or -1
+    // if all the points were replaced.  Points added inside the area
+    // already covered are simply added to the raster the next time it
+    // is drawn, so only the area they cover has to be redrawn.
+    private void changed(java.awt.Rectangle before, int first) {
+        if (first == count) return;
+        invalidateScreenGeometry();
+        GraphWin w = win;
+        if (w == null) return;
+
+        // Recomputing the bounds throws away the raster, but it is
+        // still good if the bounds haven't changed.
+        boolean keepRaster = rasterValid;
+        java.awt.Rectangle after = bounds();
+        if (before != null && after.equals(before)) {
+            rasterValid = keepRaster;
+            w.objectChanged(this);
+            w.checkUpdate(first < 0 ? after : pointBounds(w, first, count));
+        } else {
+            w.objectMoved(this, before);
+        }
+    }
+
+    // Returns the screen area covered by points first through last-1,
+    // which must not be empty.
+    private java.awt.Rectangle pointBounds(GraphWin win, int first, int last) {
+        int x1 = Integer.MAX_VALUE, y1 = Integer.MAX_VALUE;
+        int x2 = Integer.MIN_VALUE, y2 = Integer.MIN_VALUE;
+        for (int i = first; i < last; i++) {
+            int x = win.toScreenX(xs[i] + tx);
+            int y = win.toScreenY(ys[i] + ty);
+            x1 = Math.min(x1, x);
+            y1 = Math.min(y1, y);
+            x2 = Math.max(x2, x);
+            y2 = Math.max(y2, y);
+        }
+        // Each point covers a two by two square of pixels.
+        return screenBounds(x1, y1, x2 + 1, y2 + 1);
+    }
+
+    private static void checkLengths(double[] xs, double[] ys, int[] rgb) {
+        if (xs.length != ys.length || (rgb != null && rgb.length != xs.length))
+            throw new IllegalArgumentException("coordinate and color arrays have different lengths");
+    }
+
+    // Makes a packed RGB value opaque.  This also makes it nonzero,
+    // so it can't be mistaken for "use the default color".
+    private static int argb(int rgb) {
+        return rgb | 0xff000000;
+    }
+}
@@ -5,11 +5,15 @@ import java.util.ArrayList;
 
 /**
  * Polygon is a drawable polygon object.
+ * <p>
+ * The vertices are stored as arrays of plain coordinates, so very large
+ * polygons are best created with the constructor that takes arrays of
+ * coordinates, and examined with <code>getX()</code>, <code>getY()</code>,
+ * and <code>getPointCount()</code> rather than <code>getPoints()</code>.
  */
-public class Polygon extends GraphicsObject{
+public class Polygon extends VertexShape {
 
-    private Point[] pts;
-    private ColorRGB color = new ColorRGB(0, 0, 0);
+    private ColorRGB color = ColorRGB.of(0, 0, 0);
     private ColorRGB fillColor = null;
 
      /**
@@ -18,16 +22,13 @@ public class Polygon extends GraphicsObject{
       * be simply listed as separate arguments.
       * <p>
       * The <code>Point</code> objects in the array are not stored directly;
-      * they are copied instead.  The original objects may be
+      * their coordinates are copied instead.  The original objects may be
       * changed without affecting the <code>Polygon</code>.
       * 
       * @param pts  - array of <code>Point</code>s defining the polygon
       */
      public Polygon(Point ... pts) {
-        this.pts = new Point[pts.length];
-        for (int i = 0; i < pts.length; i++) {
-            this.pts[i] = new Point(pts[i]);
-        }
+        super(pts);
      }
 
      /**
@@ -35,18 +36,32 @@ public class Polygon extends GraphicsObject{
       * ArrayList of points.
       * <p>
       * The <code>Point</code> objects in the ArrayList are not stored directly;
-      * they are copied instead.  The original objects may be
+      * their coordinates are copied instead.  The original objects may be
       * changed without affecting the <code>Polygon</code>.
       * 
       * @param pts  - <code>ArrayList</code> of <code>Point</code>s defining the polygon
       */
      public Polygon(ArrayList<Point> pts) {
-        this.pts = new Point[pts.size()];
-        for (int i = 0; i < pts.size(); i++) {
-            this.pts[i] = new Point(pts.get(i));
-        }
+        super(pts.toArray(new Point[pts.size()]));
      }
 
+    /**
+     * Initializes a new <code>Polygon</code> object given the
+     * coordinates of its vertices.
+     * <p>
+     * This doesn't create a <code>Point</code> for each vertex, so it is
+     * the best way to create polygons with many vertices.  The arrays
+     * are copied; they may be changed without affecting the
+     * <code>Polygon</code>.
+     * 
+     * @param xs    The x coordinates of the vertices.
+     * @param ys    The y coordinates of the vertices.  This must be
+     *              the same length as <code>xs</code>.
+     */
+    public Polygon(double[] xs, double[] ys) {
+        super(xs, ys);
+    }
+
     /**
      * Creates a copy of the given <code>Polygon</code>.
      * <p>
@@ -56,63 +71,34 @@ public class Polygon extends GraphicsObject{
      * @param other     The Polygon object to copy
      */
     public Polygon(Polygon other) {
-        this.pts = new Point[other.pts.length];
-        for (int i = 0; i < pts.length; i++) {
-            this.pts[i] = new Point(other.pts[i]);
-        }
+        super(other);
         this.color = other.color;
         this.fillColor = other.fillColor;
     }
 
     @Override
-    public void setOutline(ColorRGB color) {
+    protected void doSetOutline(ColorRGB color) {
         this.color = color;
     }
 
     @Override
-    public void setFill(ColorRGB color) {
+    protected void doSetFill(ColorRGB color) {
         this.fillColor = color;
     }
 
-    /**
-     * Return clones of the points that define this polygon.
-     * 
-     * @return  The points defining the Polygon.
-     */
-    public Point[] getPoints() {
-        Point[] pts = new Point[this.pts.length];
-        for (int i = 0; i < this.pts.length; i++) {
-            pts[i] = new Point(this.pts[i]);
-        }
-        return pts;
-    }
-
     @Override
     protected void doDraw(Graphics g) {
-        int[] xCoords = new int[this.pts.length];
-        int[] yCoords = new int[this.pts.length];
-        for (int i = 0; i < pts.length; i++) {
-            java.awt.Point ipt = win.pointXYtoScreen(this.pts[i]);
-            xCoords[i] = ipt.x;
-            yCoords[i] = ipt.y;
-        }
+        checkScreenCoords();
 
         // Draw the interior, if necessary.
         if (this.fillColor != null) {
             g.setColor(fillColor.getColor());
-            g.fillPolygon(xCoords, yCoords, this.pts.length);
+            g.fillPolygon(xCoords, yCoords, xs.length);
         }
 
         // Draw the outline.
         g.setColor(color.getColor());
-        g.drawPolygon(xCoords, yCoords, this.pts.length);
-    }
-
-    @Override
-    protected void doMove(double dx, double dy) {
-        for (int i = 0; i < this.pts.length; i++) {
-            pts[i].doMove(dx, dy);
-        }
+        g.drawPolygon(xCoords, yCoords, xs.length);
     }
     
     @Override
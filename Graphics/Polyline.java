@@ -0,0 +1,95 @@
+package Graphics;
+
+import java.awt.Graphics;
+import java.util.ArrayList;
+
+/**
+ * Polyline is a drawable series of connected line segments.
+ * <p>
+ * It is like a <code>Polygon</code> that isn't closed: the last
+ * point is not connected back to the first, and it has no interior
+ * to fill.
+ * <p>
+ * This is NOT part of Zelle's graphics library.
+ */
+public class Polyline extends VertexShape {
+
+    private ColorRGB color = ColorRGB.of(0, 0, 0);
+
+    /**
+     * Initializes a new <code>Polyline</code> object given an
+     * array of points.  The points may be in an array, or may
+     * be simply listed as separate arguments.
+     * <p>
+     * The <code>Point</code> objects in the array are not stored directly;
+     * their coordinates are copied instead.  The original objects may be
+     * changed without affecting the <code>Polyline</code>.
+     * 
+     * @param pts   Array of <code>Point</code>s defining the polyline
+     */
+    public Polyline(Point ... pts) {
+        super(pts);
+    }
+
+    /**
+     * Initializes a new <code>Polyline</code> object given an
+     * ArrayList of points.
+     * <p>
+     * The <code>Point</code> objects in the ArrayList are not stored directly;
+     * their coordinates are copied instead.  The original objects may be
+     * changed without affecting the <code>Polyline</code>.
+     * 
+     * @param pts   <code>ArrayList</code> of <code>Point</code>s defining
+     *              the polyline
+     */
+    public Polyline(ArrayList<Point> pts) {
+        super(pts.toArray(new Point[pts.size()]));
+    }
+
+    /**
+     * Initializes a new <code>Polyline</code> object given the
+     * coordinates of its points.
+     * <p>
+     * This doesn't create a <code>Point</code> for each vertex, so it is
+     * the best way to create polylines with many points.  The arrays
+     * are copied; they may be changed without affecting the
+     * <code>Polyline</code>.
+     * 
+     * @param xs    The x coordinates of the points.
+     * @param ys    The y coordinates of the points.  This must be
+     *              the same length as <code>xs</code>.
+     */
+    public Polyline(double[] xs, double[] ys) {
+        super(xs, ys);
+    }
+
+    /**
+     * Creates a copy of the given <code>Polyline</code>.
+     * <p>
+     * The new <code>Polyline</code> object does not get the drawn
+     * status of the original polyline.
+     * 
+     * @param other     The Polyline object to copy
+     */
+    public Polyline(Polyline other) {
+        super(other);
+        this.color = other.color;
+    }
+
+    @Override
+    protected void doSetOutline(ColorRGB color) {
+        this.color = color;
+    }
+
+    @Override
+    protected void doDraw(Graphics g) {
+        checkScreenCoords();
+        g.setColor(color.getColor());
+        g.drawPolyline(xCoords, yCoords, xs.length);
+    }
+
+    @Override
+    public Object clone() {
+        return new Polyline(this);
+    }
+}
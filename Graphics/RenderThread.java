@@ -0,0 +1,210 @@
+package Graphics;
+
+import java.awt.Graphics;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import javax.swing.JPanel;
+
+/**
+ * Draws an on-screen window's objects on a thread of its own, so that
+ * Swing's event thread only has to copy the finished picture to the
+ * screen.
+ * <p>
+ * The window tells the render thread which parts of it need to be
+ * redrawn by calling <code>invalidate()</code>.  The render thread
+ * redraws those parts into a back buffer, copies them into a front
+ * buffer, and asks Swing to repaint them; <code>paintFront()</code>
+ * then just draws the front buffer.  The front buffer is only locked
+ * while it is being copied to or from, so however long it takes to draw
+ * the objects, the event thread never waits for more than a copy, and
+ * mouse clicks and key presses are handled right away.
+ * <p>
+ * Since the back buffer is kept from one frame to the next, sprites can
+ * be moved in it by putting back the pixels under them, just as in an
+ * off-screen window's image; see <code>SpriteSet</code>.  The area the
+ * sprites touch is copied to the front buffer along with the area that
+ * was redrawn.
+ * <p>
+ * This class intentionally has package visibility.
+ */
+class RenderThread extends Thread {
+
+    private final GraphWin win;
+    private final JPanel panel;
+    private final int width;
+    private final int height;
+
+    private final BufferedImage back;
+    private final BufferedImage front;
+    private final Object frontLock = new Object();
+
+    // The area waiting to be redrawn, or null if none.  wakeup is set
+    // when there may be plotted pixels to draw.  All three are guarded
+    // by lock.
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition workArrived = lock.newCondition();
+    private java.awt.Rectangle pending = null;
+    private boolean wakeup = false;
+    private boolean stopped = false;
+
+    /**
+     * Creates a render thread for a window.  The thread must be started
+     * before it does anything.
+     *
+     * @param win       The window to draw.
+     * @param panel     The panel the window is displayed in.
+     * @param width     The width of the window.
+     * @param height    The height of the window.
+     */
+    RenderThread(GraphWin win, JPanel panel, int width, int height) {
+        super("GraphWin render");
+        setDaemon(true);
+        this.win = win;
+        this.panel = panel;
+        this.width = width;
+        this.height = height;
+        back = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        front = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+    }
+
+    /**
+     * Adds an area to the part of the window that needs to be redrawn.
+     * This may be called from any thread.
+     *
+     * @param area      The area to redraw, or <code>null</code> to
+     *                  redraw the whole window.
+     */
+    void invalidate(java.awt.Rectangle area) {
+        if (area == null)
+            area = new java.awt.Rectangle(0, 0, width, height);
+
+        lock.lock();
+        try {
+            if (pending == null)
+                pending = new java.awt.Rectangle(area);
+            else
+                pending.add(area);
+            workArrived.signal();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Wakes up the render thread to draw any newly plotted pixels.
+     */
+    void wakeup() {
+        lock.lock();
+        try {
+            wakeup = true;
+            workArrived.signal();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Stops the render thread.  It finishes the frame it is drawing,
+     * if any, and exits.
+     */
+    void shutdown() {
+        lock.lock();
+        try {
+            stopped = true;
+            workArrived.signal();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Stops the render thread, and waits for it to exit.
+     */
+    void finish() {
+        shutdown();
+        boolean interrupted = false;
+        while (isAlive()) {
+            try {
+                join();
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted)
+            Thread.currentThread().interrupt();
+    }
+
+    /**
+     * Draws the most recently finished picture.  This is called by
+     * the panel's <code>paintComponent()</code>.
+     *
+     * @param g         The <code>Graphics</code> object to draw into.
+     */
+    void paintFront(Graphics g) {
+        synchronized (frontLock) {
+            g.drawImage(front, 0, 0, null);
+        }
+    }
+
+    @Override
+    public void run() {
+        java.awt.Rectangle bounds = new java.awt.Rectangle(0, 0, width, height);
+        while (true) {
+            java.awt.Rectangle area;
+            lock.lock();
+            try {
+                while (pending == null && !wakeup && !stopped)
+                    workArrived.awaitUninterruptibly();
+                if (stopped)
+                    return;
+                area = pending;
+                pending = null;
+                wakeup = false;
+            } finally {
+                lock.unlock();
+            }
+
+            java.awt.Rectangle plotted = win.takePlotDamage();
+            if (area == null)
+                area = plotted;
+            else if (plotted != null)
+                area.add(plotted);
+            SpriteSet sprites = win.sprites();
+            if (area == null && (sprites == null || !sprites.hasChanges()))
+                continue;
+
+            long start = win.metrics().startFrame();
+            if (sprites != null)
+                area = sprites.lift(back, area);
+            java.awt.Rectangle clip = (area == null) ? null : area.intersection(bounds);
+            if (clip != null && !clip.isEmpty()) {
+                Graphics2D g = back.createGraphics();
+                g.setClip(clip);
+                win.paintArea(g, clip);
+                g.dispose();
+            }
+
+            if (sprites != null) {
+                sprites.paint(back);
+                java.awt.Rectangle touched = sprites.takeTouched();
+                if (touched != null)
+                    clip = (clip == null || clip.isEmpty()) ? touched : clip.union(touched);
+            }
+            if (clip == null || clip.isEmpty())
+                continue;
+
+            int x2 = clip.x + clip.width;
+            int y2 = clip.y + clip.height;
+            synchronized (frontLock) {
+                Graphics2D f = front.createGraphics();
+                f.drawImage(back, clip.x, clip.y, x2, y2, clip.x, clip.y, x2, y2, null);
+                f.dispose();
+            }
+            win.metrics().endFrame(start);
+            panel.repaint(clip);
+        }
+    }
+}
@@ -0,0 +1,184 @@
+package Graphics;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+
+/**
+ * A uniform grid over the screen used to quickly find the objects that
+ * overlap a given area.
+ * <p>
+ * The window is divided into square cells, and each object is listed in
+ * every cell its screen bounds touch.  Finding the objects in an area
+ * then only requires looking at the cells that area touches, rather than
+ * at every object in the display list.  Objects that don't know their
+ * bounds are kept in a separate list and are always returned.
+ * <p>
+ * The grid is kept alongside the display list by <code>GraphWin</code>;
+ * it does not replace it.  Since the order of objects within a cell is
+ * not maintained, query results are sorted by the order in which the
+ * objects were drawn.
+ * <p>
+ * The grid is queried by Swing's event thread while painting, and
+ * changed by the program's thread, so every method holds the grid's
+ * lock.  None of them hold it for long.
+ * <p>
+ * This class intentionally has package visibility.
+ */
+class SpatialGrid {
+
+    private static final Comparator<GraphicsObject> drawOrder =
+        Comparator.<GraphicsObject>comparingInt(obj -> obj.layer)
+            .thenComparingLong(obj -> obj.drawOrder);
+
+    private final int cellSize;
+    private final int cols;
+    private final int rows;
+    private final ArrayList<ArrayList<GraphicsObject>> cells;
+    private final ArrayList<GraphicsObject> unbounded;
+
+    // Incremented on every query, and used to mark objects that
+    // have already been seen so that objects appearing in more
+    // than one cell are only returned once.
+    private int queryMark = 0;
+
+    /**
+     * Creates an empty grid covering a window of the given size.
+     * 
+     * @param width         The width of the window in pixels.
+     * @param height        The height of the window in pixels.
+     * @param cellSize      The width and height of each cell in pixels.
+     */
+    SpatialGrid(int width, int height, int cellSize) {
+        this.cellSize = cellSize;
+        cols = Math.max(1, (width + cellSize - 1) / cellSize);
+        rows = Math.max(1, (height + cellSize - 1) / cellSize);
+        cells = new ArrayList<>(cols * rows);
+        for (int i = 0; i < cols * rows; i++)
+            cells.add(new ArrayList<>());
+        unbounded = new ArrayList<>();
+    }
+
+    /**
+     * Adds an object to the grid, using its current screen bounds.
+     * 
+     * @param obj       The object to add.
+     */
+    synchronized void insert(GraphicsObject obj) {
+        java.awt.Rectangle bounds = obj.bounds();
+        if (bounds == null) {
+            obj.gridCells = null;
+            unbounded.add(obj);
+            return;
+        }
+
+        java.awt.Rectangle range = cellRange(bounds);
+        obj.gridCells = range;
+        for (int row = range.y; row < range.y + range.height; row++) {
+            for (int col = range.x; col < range.x + range.width; col++) {
+                cells.get(row * cols + col).add(obj);
+            }
+        }
+    }
+
+    /**
+     * Removes an object from the grid.
+     * <p>
+     * The cells the object was added to are remembered by the object
+     * itself, so the object's current bounds don't matter.
+     * 
+     * @param obj       The object to remove.
+     */
+    synchronized void remove(GraphicsObject obj) {
+        java.awt.Rectangle range = obj.gridCells;
+        if (range == null) {
+            removeFrom(unbounded, obj);
+            return;
+        }
+
+        for (int row = range.y; row < range.y + range.height; row++) {
+            for (int col = range.x; col < range.x + range.width; col++) {
+                removeFrom(cells.get(row * cols + col), obj);
+            }
+        }
+        obj.gridCells = null;
+    }
+
+    /**
+     * Moves an object to the cells covered by its current screen bounds.
+     * 
+     * @param obj       The object whose bounds have changed.
+     */
+    synchronized void update(GraphicsObject obj) {
+        remove(obj);
+        insert(obj);
+    }
+
+    /**
+     * Removes every object from the grid.
+     */
+    synchronized void clear() {
+        for (ArrayList<GraphicsObject> cell : cells)
+            cell.clear();
+        unbounded.clear();
+    }
+
+    /**
+     * Returns the objects whose screen bounds overlap the given area,
+     * from bottom to top.
+     * <p>
+     * Objects with unknown bounds are always included.
+     * 
+     * @param area      The screen area to look in.
+     * @return          The objects overlapping <code>area</code>.
+     */
+    synchronized ArrayList<GraphicsObject> query(java.awt.Rectangle area) {
+        int mark = ++queryMark;
+        ArrayList<GraphicsObject> result = new ArrayList<>(unbounded);
+
+        java.awt.Rectangle range = cellRange(area);
+        for (int row = range.y; row < range.y + range.height; row++) {
+            for (int col = range.x; col < range.x + range.width; col++) {
+                for (GraphicsObject obj : cells.get(row * cols + col)) {
+                    if (obj.gridMark == mark) continue;
+                    obj.gridMark = mark;
+                    java.awt.Rectangle bounds = obj.bounds();
+                    if (bounds.intersects(area))
+                        result.add(obj);
+                }
+            }
+        }
+
+        result.sort(drawOrder);
+        return result;
+    }
+
+    /**
+     * Returns the range of cells (as columns and rows) touched by
+     * a screen area.  Areas outside the window are clamped to the
+     * cells along its edges.
+     */
+    private java.awt.Rectangle cellRange(java.awt.Rectangle area) {
+        int col0 = clamp(Math.floorDiv(area.x, cellSize), cols);
+        int row0 = clamp(Math.floorDiv(area.y, cellSize), rows);
+        int col1 = clamp(Math.floorDiv(area.x + area.width - 1, cellSize), cols);
+        int row1 = clamp(Math.floorDiv(area.y + area.height - 1, cellSize), rows);
+        return new java.awt.Rectangle(col0, row0, col1 - col0 + 1, row1 - row0 + 1);
+    }
+
+    private static int clamp(int i, int n) {
+        return Math.max(0, Math.min(n - 1, i));
+    }
+
+    // The order of objects within a cell doesn't matter, so removal
+    // just moves the last object into the vacated slot.
+    private static void removeFrom(ArrayList<GraphicsObject> list, GraphicsObject obj) {
+        for (int i = 0; i < list.size(); i++) {
+            if (list.get(i) == obj) {
+                int last = list.size() - 1;
+                list.set(i, list.get(last));
+                list.remove(last);
+                return;
+            }
+        }
+    }
+}
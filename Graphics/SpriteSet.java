@@ -0,0 +1,345 @@
+package Graphics;
+
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.awt.image.WritableRaster;
+import java.util.ArrayList;
+import java.util.Comparator;
+
+/**
+ * Keeps track of the sprites drawn in a window that keeps its own
+ * picture: an off-screen window, or an on-screen window with a render
+ * thread.
+ * <p>
+ * A sprite (see <code>GraphicsObject.setSprite()</code>) is normally
+ * drawn straight onto the window's image, after saving the pixels it
+ * covers.  When it moves, the saved pixels are put back and the sprite
+ * is drawn again in its new place, so nothing else in the window has to
+ * be redrawn.  A sprite drawn this way is said to be floating.
+ * <p>
+ * That only gives the right picture when nothing is drawn on top of the
+ * sprite, so a sprite only floats if no object above it in the window
+ * overlaps it, and if it isn't in a static layer.  Otherwise it is
+ * grounded: it is drawn along with everything else, and moving it
+ * redraws the area it covers, just like an ordinary object.  Floating
+ * sprites that overlap each other, or overlap an area that has to be
+ * redrawn, are lifted off the image (their saved pixels are put back)
+ * and drawn again after the area has been redrawn.
+ * <p>
+ * Only those windows keep a picture to save pixels from and put them
+ * back into: the image of an off-screen window, or the render thread's
+ * back buffer.  An on-screen window that Swing draws directly has no
+ * such picture, so it has no <code>SpriteSet</code>, and its sprites are
+ * drawn like any other object.
+ * <p>
+ * Sprites are changed by the program's thread, but <code>lift()</code>
+ * and <code>paint()</code> are called by whichever thread draws the
+ * window.  Deciding which sprites float, and noting changes, are done
+ * while holding the object's own lock, so that a sprite the program
+ * sees as floating stays floating until its change has been seen.
+ * <p>
+ * This class intentionally has package visibility.
+ */
+class SpriteSet {
+
+    private static final Comparator<GraphicsObject> zOrder =
+        Comparator.<GraphicsObject>comparingInt(obj -> obj.layer)
+            .thenComparingLong(obj -> obj.drawOrder);
+
+    private final GraphWin win;
+    private final DisplayList displayList;
+
+    // The floating sprites currently drawn on the image, in the order
+    // in which they were drawn.
+    private final ArrayList<GraphicsObject> painted = new ArrayList<>();
+
+    // Sprites that have been drawn, moved, changed, or undrawn since
+    // the last update.  Guarded by the object's own lock.
+    private final ArrayList<GraphicsObject> dirty = new ArrayList<>();
+
+    // Sprites that will float, and have to be drawn by paint().
+    private final ArrayList<GraphicsObject> toPaint = new ArrayList<>();
+
+    // The part of the image changed by putting back saved pixels and
+    // drawing floating sprites since the last call to takeTouched(),
+    // or null if none.
+    private java.awt.Rectangle touched;
+
+    /**
+     * Creates an empty set of sprites.
+     *
+     * @param win           The window the sprites are drawn in.
+     * @param displayList   The window's display list.
+     */
+    SpriteSet(GraphWin win, DisplayList displayList) {
+        this.win = win;
+        this.displayList = displayList;
+    }
+
+    /**
+     * Notes that a sprite has been drawn, moved, changed, or undrawn.
+     *
+     * @param obj       The sprite.
+     */
+    synchronized void changed(GraphicsObject obj) {
+        if (!obj.spriteDirty) {
+            obj.spriteDirty = true;
+            dirty.add(obj);
+        }
+    }
+
+    /**
+     * Notes that a sprite has moved, and returns an indicator of whether
+     * it is floating, in which case nothing else needs to be redrawn.
+     *
+     * @param obj       The sprite.
+     * @return          <code>true</code> if the sprite is floating.
+     */
+    synchronized boolean moved(GraphicsObject obj) {
+        changed(obj);
+        return obj.floating;
+    }
+
+    /**
+     * Returns an indicator of whether any sprite has changed since the
+     * last call to <code>lift()</code>.
+     *
+     * @return          <code>true</code> if there are changes.
+     */
+    synchronized boolean hasChanges() {
+        return !dirty.isEmpty();
+    }
+
+    /**
+     * Gets ready to redraw the window.
+     * <p>
+     * Every floating sprite that has changed, or is in the way of an area
+     * that needs to be redrawn, is lifted off the image.  Then each
+     * sprite that has changed or been lifted is either made floating
+     * (to be drawn by <code>paint()</code>), or grounded, in which case
+     * its area is added to the area to redraw.
+     *
+     * @param image     The window's image.
+     * @param damage    The area that needs to be redrawn, or
+     *                  <code>null</code> if none.
+     * @return          The area that needs to be redrawn now, or
+     *                  <code>null</code> if none.
+     */
+    synchronized java.awt.Rectangle lift(BufferedImage image, java.awt.Rectangle damage) {
+        ArrayList<GraphicsObject> candidates = new ArrayList<>();
+        for (GraphicsObject obj : dirty) {
+            if (!obj.floating && obj.win == win && obj.sprite)
+                candidates.add(obj);
+        }
+
+        boolean again = true;
+        while (again) {
+            again = false;
+
+            // Find the floating sprites that have to come off.  Anything
+            // overlapping one of those has to come off too, so that the
+            // saved pixels are put back in the right order.
+            boolean[] lifting = new boolean[painted.size()];
+            boolean grew = true;
+            while (grew) {
+                grew = false;
+                for (int i = 0; i < painted.size(); i++) {
+                    if (lifting[i]) continue;
+                    GraphicsObject s = painted.get(i);
+                    if (s.spriteDirty || mustLift(s.underArea, damage, candidates, lifting)) {
+                        lifting[i] = true;
+                        grew = true;
+                    }
+                }
+            }
+
+            for (int i = painted.size() - 1; i >= 0; i--) {
+                if (!lifting[i]) continue;
+                GraphicsObject s = painted.remove(i);
+                restore(image, s);
+                s.floating = false;
+                if (s.win == win && s.sprite)
+                    candidates.add(s);
+            }
+
+            // Decide which sprites can float.  A floating sprite may be
+            // in the way of another one, and a grounded sprite's area has
+            // to be redrawn, so either way more sprites may have to be
+            // lifted.
+            if (!candidates.isEmpty())
+                again = true;
+            for (GraphicsObject c : candidates) {
+                java.awt.Rectangle area = padded(c.bounds());
+                if (canFloat(c, area)) {
+                    c.floating = true;
+                    toPaint.add(c);
+                    continue;
+                }
+                if (area == null)
+                    area = new java.awt.Rectangle(0, 0, image.getWidth(), image.getHeight());
+                damage = (damage == null) ? area : damage.union(area);
+            }
+            candidates.clear();
+        }
+
+        for (GraphicsObject obj : dirty)
+            obj.spriteDirty = false;
+        dirty.clear();
+        return damage;
+    }
+
+    /**
+     * Draws the sprites that were made floating by <code>lift()</code>,
+     * saving the pixels under each one first.  This is called after the
+     * rest of the window has been redrawn.
+     *
+     * @param image     The window's image.
+     */
+    void paint(BufferedImage image) {
+        if (toPaint.isEmpty())
+            return;
+
+        toPaint.sort(zOrder);
+        java.awt.Rectangle all = new java.awt.Rectangle(0, 0, image.getWidth(), image.getHeight());
+        Graphics2D g = image.createGraphics();
+        for (GraphicsObject s : toPaint) {
+            // If the sprite was undrawn after lift() (on-screen, where
+            // that can happen), its saved bounds are still used; it is
+            // lifted off again by the next lift().
+            java.awt.Rectangle b = s.bounds();
+            java.awt.Rectangle area = (b == null) ? new java.awt.Rectangle() : padded(b).intersection(all);
+            if (area.isEmpty())
+                area = new java.awt.Rectangle(0, 0, 0, 0);
+            else
+                touch(area);
+
+            int size = area.width * area.height;
+            if (s.underPixels == null || s.underPixels.length < size)
+                s.underPixels = new int[size];
+            if (size > 0)
+                image.getRaster().getDataElements(area.x, area.y, area.width, area.height,
+                                                  s.underPixels);
+            s.underArea = area;
+
+            g.setClip(area);
+            s.doDraw(g);
+            painted.add(s);
+        }
+        g.dispose();
+        toPaint.clear();
+    }
+
+    /**
+     * Returns the part of the image changed by <code>lift()</code> and
+     * <code>paint()</code> since the last call, outside the area they
+     * were told to redraw, and starts over.
+     *
+     * @return          The area changed, or <code>null</code> if none.
+     */
+    java.awt.Rectangle takeTouched() {
+        java.awt.Rectangle area = touched;
+        touched = null;
+        return area;
+    }
+
+    /**
+     * Stops every sprite floating, when the window stops keeping its own
+     * picture.  The saved pixels are thrown away, so the whole window
+     * has to be redrawn afterward.
+     */
+    synchronized void ground() {
+        for (GraphicsObject s : painted) {
+            s.floating = false;
+            s.underArea = null;
+            s.underPixels = null;
+        }
+        for (GraphicsObject s : toPaint)
+            s.floating = false;
+        for (GraphicsObject s : dirty)
+            s.spriteDirty = false;
+        painted.clear();
+        toPaint.clear();
+        dirty.clear();
+        touched = null;
+    }
+
+    /**
+     * Puts back the pixels that were under a floating sprite.
+     */
+    private void restore(BufferedImage image, GraphicsObject s) {
+        java.awt.Rectangle area = s.underArea;
+        if (area.width > 0 && area.height > 0) {
+            WritableRaster raster = image.getRaster();
+            raster.setDataElements(area.x, area.y, area.width, area.height, s.underPixels);
+            touch(area);
+        }
+        s.underArea = null;
+    }
+
+    private void touch(java.awt.Rectangle area) {
+        if (touched == null)
+            touched = new java.awt.Rectangle(area);
+        else
+            touched.add(area);
+    }
+
+    /**
+     * Returns an indicator of whether a floating sprite drawn in the
+     * given area has to be lifted off.
+     */
+    private boolean mustLift(java.awt.Rectangle area, java.awt.Rectangle damage,
+                             ArrayList<GraphicsObject> candidates, boolean[] lifting) {
+        if (damage != null && damage.intersects(area))
+            return true;
+        for (int j = 0; j < lifting.length; j++) {
+            if (lifting[j] && painted.get(j).underArea.intersects(area))
+                return true;
+        }
+        for (GraphicsObject c : candidates) {
+            java.awt.Rectangle b = c.bounds();
+            if (b == null || padded(b).intersects(area))
+                return true;
+        }
+        for (GraphicsObject c : toPaint) {
+            if (padded(c.bounds()).intersects(area))
+                return true;
+        }
+        return false;
+    }
+
+    /**
+     * Returns an indicator of whether a sprite can float: its bounds are
+     * known, it isn't in a static layer, and no object above it in the
+     * window overlaps it.
+     * <p>
+     * The display list may be changing on another thread, so this looks
+     * at a snapshot of it.  That is in the same order as the list, so
+     * only the end of it, down to the sprite, needs to be looked at.
+     */
+    private boolean canFloat(GraphicsObject obj, java.awt.Rectangle area) {
+        if (area == null || win.isLayerStatic(obj.layer))
+            return false;
+        GraphicsObject[] objects = displayList.snapshot();
+        for (int i = objects.length - 1; i >= 0; i--) {
+            GraphicsObject above = objects[i];
+            if (above.win != win)
+                continue;
+            if (zOrder.compare(above, obj) <= 0)
+                break;
+            java.awt.Rectangle b = above.bounds();
+            if (b == null || b.intersects(area))
+                return false;
+        }
+        return true;
+    }
+
+    /**
+     * Returns an object's bounds with a one pixel margin for rounding
+     * errors, or <code>null</code> if its bounds are unknown.
+     */
+    private static java.awt.Rectangle padded(java.awt.Rectangle b) {
+        if (b == null)
+            return null;
+        return new java.awt.Rectangle(b.x - 1, b.y - 1, b.width + 2, b.height + 2);
+    }
+}
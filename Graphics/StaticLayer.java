@@ -0,0 +1,269 @@
+package Graphics;
+
+import java.awt.AlphaComposite;
+import java.awt.Graphics;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.util.ArrayList;
+import java.util.Arrays;
+
+/**
+ * A saved picture of all the objects in one static layer of a window.
+ * <p>
+ * When a layer is made static (see <code>GraphWin.setLayerStatic()</code>),
+ * its objects are drawn once into a transparent image the size of the
+ * window, and from then on the window just draws the image in their
+ * place.  When one of the layer's objects is drawn, moved, changed, or
+ * undrawn, or the window's coordinates change, the area affected is
+ * marked as damaged, and only that part of the image is drawn again,
+ * the next time the window is painted.
+ * <p>
+ * A <code>StaticLayer</code> stands in for the layer's objects in the
+ * list of objects being painted, so it is itself a
+ * <code>GraphicsObject</code>; that way <code>TileRenderer</code> can
+ * draw it like any other object.  It is never in a display list.
+ * <p>
+ * This class intentionally has package visibility.
+ */
+class StaticLayer extends GraphicsObject {
+
+    private final int layerNumber;
+    private final int width;
+    private final int height;
+
+    // The saved picture, or null if it hasn't been drawn yet.  It is
+    // only drawn into while holding paintLock, and only by the thread
+    // painting the window.
+    private BufferedImage image;
+    private final Object paintLock = new Object();
+
+    // The part of the image that is out of date, or null if none.
+    // This is changed by the program's thread, so it is guarded by
+    // the object's own lock.
+    private java.awt.Rectangle damage;
+
+    /**
+     * Creates a static layer.  Its picture isn't drawn until the first
+     * call to <code>refresh()</code>.
+     *
+     * @param owner     The window the layer belongs to.
+     * @param layer     The layer number.
+     * @param width     The width of the window.
+     * @param height    The height of the window.
+     */
+    StaticLayer(GraphWin owner, int layer, int width, int height) {
+        // Pretend to be drawn in the window, so that painting doesn't
+        // skip us as an object that has been undrawn.
+        this.win = owner;
+        this.layerNumber = layer;
+        this.width = width;
+        this.height = height;
+    }
+
+    /**
+     * Returns the layer number.
+     *
+     * @return          The layer number.
+     */
+    int getLayerNumber() {
+        return layerNumber;
+    }
+
+    /**
+     * Marks part of the picture as out of date.  This may be called
+     * from any thread.
+     *
+     * @param area      The area to redraw, or <code>null</code> to
+     *                  redraw the whole picture.
+     */
+    synchronized void invalidate(java.awt.Rectangle area) {
+        if (area == null)
+            area = new java.awt.Rectangle(0, 0, width, height);
+        else
+            // Leave a one pixel margin for rounding errors, as
+            // GraphWin does when redrawing part of the window.
+            area = new java.awt.Rectangle(area.x - 1, area.y - 1,
+                                          area.width + 2, area.height + 2);
+
+        if (damage == null)
+            damage = area;
+        else
+            damage.add(area);
+    }
+
+    /**
+     * Brings the picture up to date by redrawing the damaged area.
+     *
+     * @param objects   A snapshot of the window's display list.
+     * @param from      The index in <code>objects</code> of the first
+     *                  object in this layer.
+     * @param to        The index just past the last object in this
+     *                  layer.
+     */
+    void refresh(GraphicsObject[] objects, int from, int to) {
+        synchronized (paintLock) {
+            java.awt.Rectangle area;
+            synchronized (this) {
+                area = damage;
+                damage = null;
+            }
+
+            java.awt.Rectangle all = new java.awt.Rectangle(0, 0, width, height);
+            if (image == null) {
+                image = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB_PRE);
+                area = all;
+            } else if (area == null) {
+                return;
+            }
+            area = area.intersection(all);
+            if (area.isEmpty())
+                return;
+
+            Graphics2D g = image.createGraphics();
+            g.setClip(area);
+            g.setComposite(AlphaComposite.Clear);
+            g.fillRect(area.x, area.y, area.width, area.height);
+            g.setComposite(AlphaComposite.SrcOver);
+            for (int i = from; i < to; i++) {
+                GraphicsObject obj = objects[i];
+                if (obj.win != win || obj.layer != layerNumber)
+                    continue;
+                java.awt.Rectangle bounds = obj.bounds();
+                if (bounds != null && !bounds.intersects(area))
+                    continue;
+                obj.doDraw(g);
+            }
+            g.dispose();
+        }
+    }
+
+    /**
+     * The objects to paint, made from a snapshot of a window's display
+     * list by replacing the objects in each static layer with the layer
+     * itself.  A window keeps its paint list until the display list or
+     * its set of static layers changes.
+     */
+    static final class PaintList {
+        private final GraphicsObject[] snapshot;
+        private final StaticLayer[] layers;
+        private final GraphicsObject[] objects;
+
+        // For each static layer that has any objects, the range of
+        // indexes of its objects in snapshot.
+        private final StaticLayer[] used;
+        private final int[] from;
+        private final int[] to;
+
+        /**
+         * Makes the paint list for a snapshot of a display list.
+         *
+         * @param owner     The window the display list belongs to.
+         * @param snapshot  The snapshot of the display list.
+         * @param layers    The window's static layers, sorted by
+         *                  layer number.
+         */
+        PaintList(GraphWin owner, GraphicsObject[] snapshot, StaticLayer[] layers) {
+            this.snapshot = snapshot;
+            this.layers = layers;
+
+            ArrayList<GraphicsObject> result = new ArrayList<>();
+            StaticLayer[] used = new StaticLayer[layers.length];
+            int[] from = new int[layers.length];
+            int[] to = new int[layers.length];
+            int count = 0;
+
+            // The display list is sorted by layer, so each layer's
+            // objects are all together.  Objects that have been undrawn
+            // since the snapshot was made are skipped.
+            int i = 0;
+            while (i < snapshot.length) {
+                GraphicsObject obj = snapshot[i];
+                if (obj.win != owner) {
+                    i++;
+                    continue;
+                }
+                StaticLayer sl = find(layers, obj.layer);
+                if (sl == null) {
+                    result.add(obj);
+                    i++;
+                    continue;
+                }
+
+                int start = i;
+                while (i < snapshot.length
+                        && (snapshot[i].win != owner || snapshot[i].layer == sl.layerNumber))
+                    i++;
+
+                // An object moved to another layer since the snapshot was
+                // made can split a layer in two.  Then the layer's range
+                // just covers both parts (refresh() skips objects from
+                // other layers), and it is only painted once.
+                int j = 0;
+                while (j < count && used[j] != sl)
+                    j++;
+                if (j == count) {
+                    used[count] = sl;
+                    from[count] = start;
+                    count++;
+                    result.add(sl);
+                }
+                to[j] = i;
+            }
+
+            this.objects = result.toArray(new GraphicsObject[0]);
+            this.used = Arrays.copyOf(used, count);
+            this.from = from;
+            this.to = to;
+        }
+
+        /**
+         * Returns an indicator of whether this paint list was made from
+         * the given snapshot and static layers.
+         *
+         * @param snapshot  The snapshot of the display list.
+         * @param layers    The window's static layers.
+         * @return          <code>true</code> if the paint list is
+         *                  still good.
+         */
+        boolean isFor(GraphicsObject[] snapshot, StaticLayer[] layers) {
+            return this.snapshot == snapshot && this.layers == layers;
+        }
+
+        /**
+         * Brings the saved picture of every static layer up to date.
+         */
+        void refresh() {
+            for (int i = 0; i < used.length; i++)
+                used[i].refresh(snapshot, from[i], to[i]);
+        }
+
+        /**
+         * Returns the objects to paint, from bottom to top.
+         *
+         * @return          The objects to paint.  The array must not be
+         *                  modified.
+         */
+        GraphicsObject[] getObjects() {
+            return objects;
+        }
+
+        private static StaticLayer find(StaticLayer[] layers, int layer) {
+            for (StaticLayer sl : layers) {
+                if (sl.layerNumber == layer)
+                    return sl;
+            }
+            return null;
+        }
+    }
+
+    @Override
+    protected void doDraw(Graphics g) {
+        BufferedImage img = image;
+        if (img != null)
+            g.drawImage(img, 0, 0, null);
+    }
+
+    @Override
+    protected void doMove(double dx, double dy) {
+    }
+}
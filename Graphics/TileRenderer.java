@@ -0,0 +1,121 @@
+package Graphics;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.util.Arrays;
+import java.util.stream.IntStream;
+
+/**
+ * Draws part of an off-screen window using several threads at once.
+ * <p>
+ * The area to be drawn is divided into square tiles, and each tile is
+ * drawn separately, by a thread from the common
+ * <code>ForkJoinPool</code>.  Each tile only draws the objects whose
+ * screen bounds touch it, in the same order as the display list, so the
+ * result is the same as drawing the whole area at once.  (The one
+ * exception is that AWT may draw the outline of a circle or oval a
+ * pixel differently where it crosses the edge of a tile; the same
+ * thing happens when only part of a window is redrawn.)
+ * <p>
+ * Before any tile is drawn, every object is given a chance to bring its
+ * saved state up to date by calling <code>prepareToDraw()</code>, and
+ * is sorted into the tiles it touches.  This is done on the calling
+ * thread, so that the tile threads only ever read the objects.
+ * <p>
+ * This class intentionally has package visibility.
+ */
+class TileRenderer {
+
+    /**
+     * The width and height of a tile, in pixels.
+     */
+    static final int TILE_SIZE = 256;
+
+    private TileRenderer() {
+    }
+
+    /**
+     * Redraws part of an off-screen window.
+     *
+     * @param image         The image to draw into.
+     * @param area          The area of the image to redraw.  This must
+     *                      lie within the image.
+     * @param background    The background color.
+     * @param pixelLayer    The pixels set by <code>plot()</code>, or
+     *                      <code>null</code> if there aren't any.
+     * @param objects       The objects to draw, from bottom to top.
+     * @return              The number of objects drawn; the rest lay
+     *                      outside the area.
+     */
+    static int render(BufferedImage image, java.awt.Rectangle area, Color background,
+                       BufferedImage pixelLayer, GraphicsObject[] objects) {
+        int cols = (area.width + TILE_SIZE - 1) / TILE_SIZE;
+        int rows = (area.height + TILE_SIZE - 1) / TILE_SIZE;
+
+        // For each tile, the indexes (into objs) of the objects that
+        // touch it, in drawing order.
+        GraphicsObject[] objs = new GraphicsObject[objects.length];
+        int[][] tileObjs = new int[cols * rows][];
+        int[] tileCounts = new int[cols * rows];
+        for (int t = 0; t < tileObjs.length; t++)
+            tileObjs[t] = new int[16];
+
+        int n = 0;
+        for (GraphicsObject obj : objects) {
+            // Floating sprites are drawn afterwards by the window.
+            if (obj.floating) continue;
+            obj.prepareToDraw();
+            java.awt.Rectangle bounds = obj.bounds();
+
+            int col1 = 0, col2 = cols - 1, row1 = 0, row2 = rows - 1;
+            if (bounds != null) {
+                // Leave a one pixel margin for rounding errors, as
+                // GraphWin does when redrawing part of the window.
+                java.awt.Rectangle r = new java.awt.Rectangle(bounds.x - 1, bounds.y - 1,
+                    bounds.width + 2, bounds.height + 2).intersection(area);
+                if (r.isEmpty()) continue;
+                col1 = (r.x - area.x) / TILE_SIZE;
+                col2 = (r.x + r.width - 1 - area.x) / TILE_SIZE;
+                row1 = (r.y - area.y) / TILE_SIZE;
+                row2 = (r.y + r.height - 1 - area.y) / TILE_SIZE;
+            }
+
+            objs[n] = obj;
+            for (int row = row1; row <= row2; row++) {
+                for (int col = col1; col <= col2; col++) {
+                    int t = row * cols + col;
+                    if (tileCounts[t] == tileObjs[t].length)
+                        tileObjs[t] = Arrays.copyOf(tileObjs[t], tileCounts[t] * 2);
+                    tileObjs[t][tileCounts[t]++] = n;
+                }
+            }
+            n++;
+        }
+
+        // A parallel stream runs its work in the common ForkJoinPool.
+        IntStream.range(0, tileObjs.length).parallel().forEach(t -> {
+            int x = area.x + (t % cols) * TILE_SIZE;
+            int y = area.y + (t / cols) * TILE_SIZE;
+            java.awt.Rectangle tile = new java.awt.Rectangle(x, y,
+                Math.min(TILE_SIZE, area.x + area.width - x),
+                Math.min(TILE_SIZE, area.y + area.height - y));
+
+            // Each tile draws into its own subimage, which shares the
+            // pixels of the full image, so no two threads ever share a
+            // Graphics object or draw to the same pixel.
+            BufferedImage sub = image.getSubimage(tile.x, tile.y, tile.width, tile.height);
+            Graphics2D g = sub.createGraphics();
+            g.translate(-tile.x, -tile.y);
+            g.setClip(tile);
+            g.setColor(background);
+            g.fillRect(tile.x, tile.y, tile.width, tile.height);
+            if (pixelLayer != null)
+                g.drawImage(pixelLayer, 0, 0, null);
+            for (int i = 0; i < tileCounts[t]; i++)
+                objs[tileObjs[t][i]].doDraw(g);
+            g.dispose();
+        });
+        return n;
+    }
+}
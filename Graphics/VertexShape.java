@@ -0,0 +1,255 @@
+package Graphics;
+
+import java.nio.DoubleBuffer;
+
+/**
+ * VertexShape is the common base of <code>Polygon</code> and
+ * <code>Polyline</code>, which are both defined by a list of vertices.
+ * <p>
+ * The vertices are stored as two parallel arrays of plain coordinates
+ * rather than as an array of (drawable) <code>Point</code> objects, so
+ * a shape with many thousands of vertices costs two doubles per vertex
+ * and can be built, moved, and inspected without creating a
+ * <code>Point</code> for each one.
+ * <p>
+ * Moving the shape doesn't touch the vertices.  The move is just added
+ * to a translation offset, which is applied to each vertex when the
+ * screen coordinates are computed, so <code>move()</code> takes the same
+ * time no matter how many vertices there are.  The vertices themselves
+ * are never changed, since the window may be reading them while it
+ * paints; anything that hands out translated coordinates makes a
+ * translated copy.  The shape's bounds come from a bounding box kept in
+ * user coordinates, so the screen coordinates of the vertices are only
+ * computed when the shape is actually drawn.
+ * <p>
+ * This class intentionally has package visibility.
+ */
+abstract class VertexShape extends GraphicsObject {
+
+    // The vertex coordinates.  These arrays are never shared with
+    // the caller, so the views returned below really are read-only.
+    // The actual position of vertex i is (xs[i] + tx, ys[i] + ty).
+    protected final double[] xs;
+    protected final double[] ys;
+    private double tx = 0.0;
+    private double ty = 0.0;
+
+    // The bounding box of xs and ys (not including tx and ty).
+    private double minX, maxX, minY, maxY;
+
+    // Screen coordinates of the vertices, computed by
+    // checkScreenCoords().
+    protected int[] xCoords;
+    protected int[] yCoords;
+    private boolean coordsValid = false;
+
+    /**
+     * Initializes the vertices from an array of points.
+     * 
+     * @param pts       The points defining the shape.
+     */
+    protected VertexShape(Point[] pts) {
+        xs = new double[pts.length];
+        ys = new double[pts.length];
+        for (int i = 0; i < pts.length; i++) {
+            xs[i] = pts[i].getX();
+            ys[i] = pts[i].getY();
+        }
+        xCoords = new int[xs.length];
+        yCoords = new int[xs.length];
+        findExtent();
+    }
+
+    /**
+     * Initializes the vertices from arrays of coordinates.
+     * <p>
+     * The arrays are copied, so the caller may change them afterward
+     * without affecting the shape.
+     * 
+     * @param xs        The x coordinates of the vertices.
+     * @param ys        The y coordinates of the vertices.
+     */
+    protected VertexShape(double[] xs, double[] ys) {
+        if (xs.length != ys.length)
+            throw new IllegalArgumentException(
+                "x and y arrays have different lengths: " + xs.length + " and " + ys.length);
+        this.xs = xs.clone();
+        this.ys = ys.clone();
+        xCoords = new int[xs.length];
+        yCoords = new int[xs.length];
+        findExtent();
+    }
+
+    /**
+     * Initializes the vertices as a copy of another shape's vertices.
+     * 
+     * @param other     The shape to copy.
+     */
+    protected VertexShape(VertexShape other) {
+        double dx = other.tx;
+        double dy = other.ty;
+        this.xs = translated(other.xs, dx);
+        this.ys = translated(other.ys, dy);
+        xCoords = new int[xs.length];
+        yCoords = new int[xs.length];
+        this.minX = other.minX + dx;
+        this.maxX = other.maxX + dx;
+        this.minY = other.minY + dy;
+        this.maxY = other.maxY + dy;
+    }
+
+    // Computes the bounding box of the vertices.
+    private void findExtent() {
+        if (xs.length == 0) return;
+        minX = maxX = xs[0];
+        minY = maxY = ys[0];
+        for (int i = 1; i < xs.length; i++) {
+            minX = Math.min(minX, xs[i]);
+            maxX = Math.max(maxX, xs[i]);
+            minY = Math.min(minY, ys[i]);
+            maxY = Math.max(maxY, ys[i]);
+        }
+    }
+
+    // Returns a copy of coords with t added to every entry.
+    private static double[] translated(double[] coords, double t) {
+        double[] result = coords.clone();
+        if (t != 0.0) {
+            for (int i = 0; i < result.length; i++)
+                result[i] += t;
+        }
+        return result;
+    }
+
+    /**
+     * Returns the number of vertices in this shape.
+     * 
+     * @return      The number of vertices.
+     */
+    public int getPointCount() {
+        return xs.length;
+    }
+
+    /**
+     * Returns the x coordinate of one vertex.
+     * 
+     * @param i     The index of the vertex.
+     * @return      The x coordinate of vertex <code>i</code>.
+     */
+    public double getX(int i) {
+        return xs[i] + tx;
+    }
+
+    /**
+     * Returns the y coordinate of one vertex.
+     * 
+     * @param i     The index of the vertex.
+     * @return      The y coordinate of vertex <code>i</code>.
+     */
+    public double getY(int i) {
+        return ys[i] + ty;
+    }
+
+    /**
+     * Returns a read-only view of the x coordinates of the vertices.
+     * <p>
+     * If the shape has never been moved, nothing is copied.  Otherwise
+     * the view is of a moved copy of the coordinates.  Either way, the
+     * view is only good until the shape is next moved.
+     * 
+     * @return      A read-only buffer of the x coordinates.
+     */
+    public DoubleBuffer getXView() {
+        double dx = tx;
+        return DoubleBuffer.wrap(dx == 0.0 ? xs : translated(xs, dx)).asReadOnlyBuffer();
+    }
+
+    /**
+     * Returns a read-only view of the y coordinates of the vertices.
+     * <p>
+     * If the shape has never been moved, nothing is copied.  Otherwise
+     * the view is of a moved copy of the coordinates.  Either way, the
+     * view is only good until the shape is next moved.
+     * 
+     * @return      A read-only buffer of the y coordinates.
+     */
+    public DoubleBuffer getYView() {
+        double dy = ty;
+        return DoubleBuffer.wrap(dy == 0.0 ? ys : translated(ys, dy)).asReadOnlyBuffer();
+    }
+
+    /**
+     * Return clones of the points that define this shape.
+     * <p>
+     * This creates a new <code>Point</code> for every vertex; for large
+     * shapes, <code>getX()</code>, <code>getY()</code>, or the views
+     * are much cheaper.
+     * 
+     * @return  The points defining the shape.
+     */
+    public Point[] getPoints() {
+        Point[] pts = new Point[xs.length];
+        for (int i = 0; i < xs.length; i++) {
+            pts[i] = new Point(xs[i] + tx, ys[i] + ty);
+        }
+        return pts;
+    }
+
+    @Override
+    protected java.awt.Rectangle getScreenBounds(GraphWin win) {
+        if (xs.length == 0) return new java.awt.Rectangle();
+
+        // The screen transform never changes the order of two
+        // coordinates (except by flipping it), so the corners of the
+        // bounding box end up at the edges of the screen bounds.
+        return screenBounds(
+            win.toScreenX(minX + tx), win.toScreenY(minY + ty),
+            win.toScreenX(maxX + tx), win.toScreenY(maxY + ty));
+    }
+
+    /**
+     * Marks the screen coordinates of the vertices as out of date.
+     * They aren't recomputed until <code>checkScreenCoords()</code>
+     * is called.
+     */
+    @Override
+    protected void updateScreenGeometry(GraphWin win) {
+        coordsValid = false;
+    }
+
+    /**
+     * Makes sure <code>xCoords</code> and <code>yCoords</code> hold the
+     * screen coordinates of the vertices.  Derived classes call this
+     * at the start of <code>doDraw()</code>.
+     * <p>
+     * The arrays are allocated along with the shape, so this doesn't
+     * allocate anything.
+     */
+    protected final void checkScreenCoords() {
+        checkScreenGeometry();
+        if (coordsValid) return;
+
+        // The shape may be undrawn while the window is being painted,
+        // so win is only read once.
+        GraphWin w = win;
+        if (w == null) return;
+        double dx = tx;
+        double dy = ty;
+        for (int i = 0; i < xs.length; i++) {
+            xCoords[i] = w.toScreenX(xs[i] + dx);
+            yCoords[i] = w.toScreenY(ys[i] + dy);
+        }
+        coordsValid = true;
+    }
+
+    @Override
+    protected void prepareToDraw() {
+        checkScreenCoords();
+    }
+
+    @Override
+    protected void doMove(double dx, double dy) {
+        tx += dx;
+        ty += dy;
+    }
+}
@@ -0,0 +1,120 @@
+package Graphics;
+
+/**
+ * A mouse click or key press in a <code>GraphWin</code>.
+ * <p>
+ * Every click and key press is saved in the window until the program
+ * asks for it, so none are lost if the program is busy when they happen.
+ * <code>GraphWin.checkEvents()</code> returns all the saved events at
+ * once as <code>WindowInput</code>s, in the order in which they happened.
+ * <p>
+ * WindowInput objects are immutable.
+ */
+public class WindowInput {
+
+    /**
+     * The kinds of input event.
+     */
+    public enum Type {
+        /** A mouse click. */
+        MOUSE,
+        /** A key press. */
+        KEY
+    }
+
+    private final GraphWin win;
+    private final Type type;
+    private final int screenX;
+    private final int screenY;
+    private final String key;
+    private final long time;
+
+    /**
+     * Creates an input event.
+     * <p>
+     * This is package-private, since only <code>GraphWin</code> creates
+     * input events.
+     * 
+     * @param win       The window the event happened in.
+     * @param type      The kind of event.
+     * @param screenX   For mouse clicks, the x screen coordinate.
+     * @param screenY   For mouse clicks, the y screen coordinate.
+     * @param key       For key presses, the key, as returned by
+     *                  <code>GraphWin.getKey()</code>.
+     * @param time      When the event arrived, as given by
+     *                  <code>System.nanoTime()</code>.
+     */
+    WindowInput(GraphWin win, Type type, int screenX, int screenY, String key, long time) {
+        this.win = win;
+        this.type = type;
+        this.screenX = screenX;
+        this.screenY = screenY;
+        this.key = key;
+        this.time = time;
+    }
+
+    /**
+     * Returns the kind of event.
+     * 
+     * @return      <code>Type.MOUSE</code> or <code>Type.KEY</code>.
+     */
+    public Type getType() {
+        return type;
+    }
+
+    /**
+     * Returns an indicator of whether this is a mouse click.
+     * 
+     * @return      <code>true</code> if this is a mouse click.
+     */
+    public boolean isMouse() {
+        return type == Type.MOUSE;
+    }
+
+    /**
+     * Returns an indicator of whether this is a key press.
+     * 
+     * @return      <code>true</code> if this is a key press.
+     */
+    public boolean isKey() {
+        return type == Type.KEY;
+    }
+
+    /**
+     * Returns the point where the mouse was clicked.
+     * <p>
+     * The point is in the window's current user coordinates.
+     * 
+     * @return      The point clicked, or <code>null</code> if this
+     *              is not a mouse click.
+     */
+    public Point getPoint() {
+        if (type != Type.MOUSE) return null;
+        return win.screenXYtoPoint(screenX, screenY);
+    }
+
+    /**
+     * Returns the key that was pressed.
+     * <p>
+     * Keys are described the same way as by <code>GraphWin.getKey()</code>.
+     * 
+     * @return      The key pressed, or <code>null</code> if this is
+     *              not a key press.
+     */
+    public String getKey() {
+        return key;
+    }
+
+    /**
+     * Returns the time the event arrived.
+     * <p>
+     * This is given by <code>System.nanoTime()</code>, so it is only
+     * useful for comparing with other times from
+     * <code>System.nanoTime()</code>.
+     * 
+     * @return      The time the event arrived, in nanoseconds.
+     */
+    public long getTime() {
+        return time;
+    }
+}
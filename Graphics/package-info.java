@@ -11,10 +11,9 @@
  * <a href="https://mcsp.wartburg.edu/zelle/python/graphics/graphics/graphref.html">graphics.py</a>
  * <p>
  * Do not use this library as a model for using Java's Swing
- * library.  For simplicity, I'm keeping everything single-
- * threaded, and use <code>Thread.sleep()</code> whenever I
- * need to allow the user interface to check for mouse clicks
- * and key presses.
+ * library.  For simplicity, the program's own thread does all
+ * the drawing, and simply waits (or checks) for mouse clicks
+ * and key presses delivered by Swing's event thread.
  * <p>
  * This turns the more modern (since 1983) concept of a user
  * interface on its head.  Instead of using an event loop and
@@ -0,0 +1,36 @@
+import java.io.File;
+import java.io.IOException;
+
+import javax.imageio.ImageIO;
+
+import Graphics.Circle;
+import Graphics.GraphWin;
+import Graphics.Point;
+import Graphics.Rectangle;
+
+// Test drawing into an off-screen window.
+//
+// This should work even when run with -Djava.awt.headless=true.
+// The result is written to offscreen.png.
+
+public class TestOffscreen {
+    
+    public static void main(String[] args) throws IOException {
+        GraphWin win = GraphWin.createOffscreen(600, 600);
+        win.setBackground("gray");
+
+        win.setCoords(-0.1, -0.1, 1.1, 1.1);
+
+        Rectangle rect = new Rectangle(new Point(0.0, 0.0), new Point(1.0, 1.0));
+        rect.setFill("white");
+        rect.draw(win);
+
+        Circle circle = new Circle(new Point(0.25, 0.25), 0.2);
+        circle.setFill("red");
+        circle.draw(win);
+        circle.move(0.5, 0.5);
+
+        ImageIO.write(win.getImage(), "png", new File("offscreen.png"));
+        win.close();
+    }
+}
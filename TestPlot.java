@@ -0,0 +1,57 @@
+import Graphics.Circle;
+import Graphics.ColorRGB;
+import Graphics.GraphWin;
+import Graphics.Point;
+
+// Test plot() and plotPixel().
+//
+// Draws the Mandelbrot set one pixel at a time using plot(), with a
+// circle drawn on top of it; the plotted pixels should always appear
+// beneath the circle.  A black border is drawn around the edge with
+// plotPixel().
+
+public class TestPlot {
+
+    public static void main(String[] args) throws InterruptedException {
+        GraphWin win = new GraphWin("Test Plot", 600, 600);
+        win.setCoords(-2.0, -1.5, 1.0, 1.5);
+
+        Circle c = new Circle(new Point(-0.5, 0), 0.25);
+        c.setFill("yellow");
+        c.draw(win);
+
+        ColorRGB[] colors = new ColorRGB[32];
+        for (int i = 0; i < colors.length; i++)
+            colors[i] = new ColorRGB(0, i * 8, 255 - i * 8);
+
+        for (int sy = 0; sy < 600; sy++) {
+            for (int sx = 0; sx < 600; sx++) {
+                Point pt = win.screenXYtoPoint(sx, sy);
+                double cr = pt.getX();
+                double ci = pt.getY();
+                double zr = 0, zi = 0;
+                int n = 0;
+                while (n < 256 && zr * zr + zi * zi < 4) {
+                    double t = zr * zr - zi * zi + cr;
+                    zi = 2 * zr * zi + ci;
+                    zr = t;
+                    n++;
+                }
+                if (n == 256)
+                    win.plot(cr, ci);
+                else
+                    win.plot(cr, ci, colors[n % colors.length]);
+            }
+        }
+
+        for (int i = 0; i < 600; i++) {
+            win.plotPixel(i, 0);
+            win.plotPixel(i, 599);
+            win.plotPixel(0, i);
+            win.plotPixel(599, i);
+        }
+
+        win.getMouse();
+        win.close();
+    }
+}
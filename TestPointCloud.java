@@ -0,0 +1,51 @@
+import java.io.File;
+import java.io.IOException;
+import java.util.Random;
+
+import javax.imageio.ImageIO;
+
+import Graphics.ColorRGB;
+import Graphics.GraphWin;
+import Graphics.PointCloud;
+
+// Test drawing a large number of points at once.
+//
+// This should work even when run with -Djava.awt.headless=true.
+// The result is written to pointcloud.png: a blue scatter plot of
+// 100,000 normally distributed samples, with a red ring of points
+// added to it point by point after it was drawn.
+
+public class TestPointCloud {
+    
+    public static void main(String[] args) throws IOException {
+        GraphWin win = GraphWin.createOffscreen(600, 600);
+        win.setBackground("white");
+
+        win.setCoords(-4, -4, 4, 4);
+
+        Random random = new Random(1);
+        int n = 100000;
+        double[] xs = new double[n];
+        double[] ys = new double[n];
+        for (int i = 0; i < n; i++) {
+            xs[i] = random.nextGaussian();
+            ys[i] = random.nextGaussian();
+        }
+        PointCloud cloud = new PointCloud(xs, ys);
+        cloud.setOutline("blue");
+        cloud.draw(win);
+        win.getImage();
+
+        ColorRGB red = new ColorRGB("red");
+        for (int i = 0; i < 1000; i++) {
+            double a = 2 * Math.PI * i / 1000;
+            cloud.add(3.5 * Math.cos(a), 3.5 * Math.sin(a), red);
+        }
+
+        if (cloud.getPointCount() != n + 1000)
+            System.out.println("PointCloud has " + cloud.getPointCount() + " points");
+
+        ImageIO.write(win.getImage(), "png", new File("pointcloud.png"));
+        win.close();
+    }
+}
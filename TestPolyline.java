@@ -0,0 +1,56 @@
+import java.io.File;
+import java.io.IOException;
+
+import javax.imageio.ImageIO;
+
+import Graphics.GraphWin;
+import Graphics.Point;
+import Graphics.Polygon;
+import Graphics.Polyline;
+
+// Test drawing polylines, and polygons made from coordinate arrays.
+//
+// This should work even when run with -Djava.awt.headless=true.
+// The result is written to polyline.png: a sine wave built from
+// 1000 points, an orange zigzag, and a green triangle.  The wave
+// and the triangle have each been moved once.
+
+public class TestPolyline {
+    
+    public static void main(String[] args) throws IOException {
+        GraphWin win = GraphWin.createOffscreen(600, 600);
+        win.setBackground("white");
+
+        win.setCoords(-0.1, -1.2, 2 * Math.PI + 0.1, 1.2);
+
+        int n = 1000;
+        double[] xs = new double[n];
+        double[] ys = new double[n];
+        for (int i = 0; i < n; i++) {
+            xs[i] = 2 * Math.PI * i / (n - 1);
+            ys[i] = Math.sin(xs[i]);
+        }
+        Polyline wave = new Polyline(xs, ys);
+        wave.setOutline("blue");
+        wave.draw(win);
+        wave.move(0, -0.1);
+
+        Polyline zigzag = new Polyline(new Point(0.5, 0.9), new Point(1.5, 0.5),
+                new Point(2.5, 0.9), new Point(3.5, 0.5));
+        zigzag.setOutline("orange");
+        zigzag.draw(win);
+
+        Polygon triangle = new Polygon(new double[] { 4.0, 5.0, 4.5 },
+                new double[] { -0.9, -0.9, -0.2 });
+        triangle.setOutline("black");
+        triangle.setFill("green");
+        triangle.draw(win);
+        triangle.move(0.5, 0);
+
+        if (wave.getPointCount() != n || triangle.getX(0) != 4.5)
+            System.out.println("Polyline points were not copied correctly");
+
+        ImageIO.write(win.getImage(), "png", new File("polyline.png"));
+        win.close();
+    }
+}
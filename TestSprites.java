@@ -0,0 +1,120 @@
+import java.awt.image.BufferedImage;
+import java.util.Random;
+
+import Graphics.ColorRGB;
+import Graphics.GraphWin;
+import Graphics.GraphicsObject;
+import Graphics.Line;
+import Graphics.Point;
+import Graphics.Rectangle;
+
+// Test sprites and static layers against plain drawing.
+//
+// This should work even when run with -Djava.awt.headless=true.
+// The same random scene is drawn into two off-screen windows: one
+// plain, and one with the background lines in a static layer, the
+// small rectangles as sprites, and the spatial index turned on.
+// Then the same random moves, color changes and redraws are made in
+// both (with some sprites turned back into ordinary objects and back
+// again in the second), and after each one the two pictures should
+// be identical.  Any frame that differs is reported.
+
+public class TestSprites {
+
+    static final int WIDTH = 400;
+    static final int HEIGHT = 300;
+    static final int LINES = 300;
+    static final int SPRITES = 40;
+    static final int FRAMES = 400;
+
+    public static void main(String[] args) {
+        GraphWin plain = GraphWin.createOffscreen(WIDTH, HEIGHT);
+        GraphWin fast = GraphWin.createOffscreen(WIDTH, HEIGHT);
+        fast.setSpatialIndex(true);
+        fast.setLayerStatic(0, true);
+        GraphicsObject[] plainObjs = createScene(plain, false);
+        GraphicsObject[] fastObjs = createScene(fast, true);
+
+        Random random = new Random(1);
+        int bad = 0;
+        for (int frame = 0; frame < FRAMES; frame++) {
+            int op = random.nextInt(20);
+            int i = LINES + random.nextInt(SPRITES);
+            int j = random.nextInt(LINES);
+            double dx = random.nextInt(21) - 10;
+            double dy = random.nextInt(21) - 10;
+            change(plain, plainObjs, false, op, i, j, dx, dy, frame);
+            change(fast, fastObjs, true, op, i, j, dx, dy, frame);
+
+            int diff = countDifferences(plain.getImage(), fast.getImage());
+            if (diff != 0) {
+                System.out.println("Frame " + frame + ": " + diff + " pixels differ");
+                bad++;
+            }
+        }
+        System.out.println(bad == 0 ? "All frames match" : bad + " frames differ");
+        plain.close();
+        fast.close();
+    }
+
+    // Draws LINES lines (in layer 0), SPRITES small rectangles, and
+    // one big black rectangle on top of them all.
+    static GraphicsObject[] createScene(GraphWin win, boolean sprites) {
+        win.setCoords(0, 0, WIDTH, HEIGHT);
+        GraphicsObject[] objs = new GraphicsObject[LINES + SPRITES + 1];
+        Random random = new Random(5);
+        for (int i = 0; i < LINES; i++) {
+            Line line = new Line(new Point(random.nextInt(WIDTH), random.nextInt(HEIGHT)),
+                    new Point(random.nextInt(WIDTH), random.nextInt(HEIGHT)));
+            line.setOutline(new ColorRGB(0, random.nextInt(256), 200));
+            line.draw(win);
+            objs[i] = line;
+        }
+        for (int i = 0; i < SPRITES; i++) {
+            int x = random.nextInt(WIDTH);
+            int y = random.nextInt(HEIGHT);
+            int r = 5 + random.nextInt(15);
+            Rectangle rect = new Rectangle(new Point(x - r, y - r), new Point(x + r, y + r));
+            rect.setFill(new ColorRGB(255, random.nextInt(256), 0));
+            rect.setLayer(1);
+            rect.setSprite(sprites);
+            rect.draw(win);
+            objs[LINES + i] = rect;
+        }
+        Rectangle top = new Rectangle(new Point(150, 100), new Point(250, 200));
+        top.setFill("black");
+        top.setLayer(1);
+        top.draw(win);
+        objs[LINES + SPRITES] = top;
+        return objs;
+    }
+
+    static void change(GraphWin win, GraphicsObject[] objs, boolean sprites,
+            int op, int i, int j, double dx, double dy, int frame) {
+        if (op < 14) {
+            objs[i].move(dx, dy);
+        } else if (op == 14) {
+            objs[j].move(dx, dy);
+        } else if (op == 15) {
+            objs[i].setFill(new ColorRGB(0, 255, 0));
+        } else if (op == 16) {
+            objs[i].undraw();
+            objs[i].draw(win);
+        } else if (op == 17) {
+            objs[LINES + SPRITES].move(dx, dy);
+        } else if (op == 18 && sprites) {
+            objs[i].setSprite(!objs[i].isSprite());
+        }
+        if (frame == FRAMES / 2)
+            win.setCoords(0, 0, WIDTH + 20, HEIGHT + 10);
+    }
+
+    static int countDifferences(BufferedImage a, BufferedImage b) {
+        int diff = 0;
+        for (int y = 0; y < a.getHeight(); y++)
+            for (int x = 0; x < a.getWidth(); x++)
+                if (a.getRGB(x, y) != b.getRGB(x, y))
+                    diff++;
+        return diff;
+    }
+}
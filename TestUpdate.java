@@ -0,0 +1,35 @@
+import Graphics.Circle;
+import Graphics.GraphWin;
+import Graphics.Point;
+
+// Test batched updates.
+//
+// The window is created with autoFlush turned off, so moving
+// the circles doesn't change the screen until update() is called.
+// All the circles should move together, 30 frames per second.
+
+public class TestUpdate {
+    
+    public static void main(String[] args) throws InterruptedException {
+        GraphWin win = new GraphWin("Test Update", 600, 600, false);
+        win.setCoords(0, 0, 1, 1);
+
+        Circle[] circles = new Circle[50];
+        for (int i = 0; i < circles.length; i++) {
+            circles[i] = new Circle(new Point(0.1, (i + 0.5) / circles.length), 0.01);
+            circles[i].setFill("red");
+            circles[i].draw(win);
+        }
+        win.update();
+
+        double dx = 0.005;
+        while (!win.isClosed()) {
+            for (Circle c : circles) {
+                c.move(dx, 0);
+            }
+            if (circles[0].getCenter().getX() > 0.9 || circles[0].getCenter().getX() < 0.1)
+                dx = -dx;
+            win.update(30);
+        }
+    }
+}